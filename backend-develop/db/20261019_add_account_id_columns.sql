@@ -0,0 +1,91 @@
+USE yumyumcoach;
+
+-- =====================================================================
+-- email 문자열 조인 -> accounts.id(BIGINT) 조인 전환 1단계
+--
+-- 진행 순서
+--   1) account_id 컬럼 추가(NULL 허용) -> 2) backfill -> 3) NOT NULL + 인덱스 + FK
+--   4) 애플리케이션: INSERT 시 email / account_id 동시 기록, 조인은 account_id 기준
+--   5) (다음 단계) email 기준 조회가 모두 옮겨지면 email 컬럼/FK/인덱스 제거
+--
+-- FK 삭제 정책은 기존 email FK 와 동일하게 맞춤
+--   - posts / post_comments: 제한 (탈퇴 시 deleted@system 계정으로 작성자 치환)
+--   - 나머지: ON DELETE CASCADE
+-- =====================================================================
+
+-- 1) 컬럼 추가
+ALTER TABLE posts                  ADD COLUMN author_id  BIGINT UNSIGNED NULL AFTER author_email;
+ALTER TABLE post_comments          ADD COLUMN author_id  BIGINT UNSIGNED NULL AFTER author_email;
+ALTER TABLE post_likes             ADD COLUMN account_id BIGINT UNSIGNED NULL AFTER email;
+ALTER TABLE follows                ADD COLUMN follower_id BIGINT UNSIGNED NULL AFTER followee_email,
+                                   ADD COLUMN followee_id BIGINT UNSIGNED NULL AFTER follower_id;
+ALTER TABLE diet_records           ADD COLUMN account_id BIGINT UNSIGNED NULL AFTER email;
+ALTER TABLE exercise_records       ADD COLUMN account_id BIGINT UNSIGNED NULL AFTER email;
+ALTER TABLE challenge_participants ADD COLUMN account_id BIGINT UNSIGNED NULL AFTER email;
+ALTER TABLE account_titles         ADD COLUMN account_id BIGINT UNSIGNED NULL AFTER email;
+
+-- 2) backfill
+UPDATE posts t                  JOIN accounts a ON a.email = t.author_email SET t.author_id = a.id;
+UPDATE post_comments t          JOIN accounts a ON a.email = t.author_email SET t.author_id = a.id;
+UPDATE post_likes t             JOIN accounts a ON a.email = t.email SET t.account_id = a.id;
+UPDATE follows t                JOIN accounts a ON a.email = t.follower_email SET t.follower_id = a.id;
+UPDATE follows t                JOIN accounts a ON a.email = t.followee_email SET t.followee_id = a.id;
+UPDATE diet_records t           JOIN accounts a ON a.email = t.email SET t.account_id = a.id;
+UPDATE exercise_records t       JOIN accounts a ON a.email = t.email SET t.account_id = a.id;
+UPDATE challenge_participants t JOIN accounts a ON a.email = t.email SET t.account_id = a.id;
+UPDATE account_titles t         JOIN accounts a ON a.email = t.email SET t.account_id = a.id;
+
+-- 3) NOT NULL + 인덱스 + FK
+ALTER TABLE posts
+    MODIFY author_id BIGINT UNSIGNED NOT NULL,
+    ADD KEY idx_posts_author_id (author_id),
+    ADD CONSTRAINT fk_posts_author_id
+        FOREIGN KEY (author_id) REFERENCES accounts(id);
+
+ALTER TABLE post_comments
+    MODIFY author_id BIGINT UNSIGNED NOT NULL,
+    ADD KEY idx_post_comments_author_id (author_id),
+    ADD CONSTRAINT fk_post_comments_author_id
+        FOREIGN KEY (author_id) REFERENCES accounts(id);
+
+ALTER TABLE post_likes
+    MODIFY account_id BIGINT UNSIGNED NOT NULL,
+    ADD UNIQUE KEY uq_post_likes_post_account (post_id, account_id),
+    ADD KEY idx_post_likes_account_created_at (account_id, created_at),
+    ADD CONSTRAINT fk_post_likes_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+ALTER TABLE follows
+    MODIFY follower_id BIGINT UNSIGNED NOT NULL,
+    MODIFY followee_id BIGINT UNSIGNED NOT NULL,
+    ADD UNIQUE KEY uq_follows_follower_followee_id (follower_id, followee_id),
+    ADD KEY idx_follows_followee_id (followee_id),
+    ADD CONSTRAINT fk_follows_follower_id
+        FOREIGN KEY (follower_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_follows_followee_id
+        FOREIGN KEY (followee_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+ALTER TABLE diet_records
+    MODIFY account_id BIGINT UNSIGNED NOT NULL,
+    ADD KEY idx_diet_records_account_recorded_at (account_id, recorded_at),
+    ADD CONSTRAINT fk_diet_records_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+ALTER TABLE exercise_records
+    MODIFY account_id BIGINT UNSIGNED NOT NULL,
+    ADD KEY idx_exercise_records_account_recorded_at (account_id, recorded_at),
+    ADD CONSTRAINT fk_exercise_records_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+ALTER TABLE challenge_participants
+    MODIFY account_id BIGINT UNSIGNED NOT NULL,
+    ADD UNIQUE KEY uq_challenge_participants_challenge_account (challenge_id, account_id),
+    ADD KEY idx_challenge_participants_account_id (account_id),
+    ADD CONSTRAINT fk_challenge_participants_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+ALTER TABLE account_titles
+    MODIFY account_id BIGINT UNSIGNED NOT NULL,
+    ADD UNIQUE KEY uq_account_titles_account_title (account_id, title_id),
+    ADD CONSTRAINT fk_account_titles_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
@@ -0,0 +1,48 @@
+USE yumyumcoach;
+
+-- 1) 사용자별 일일 식단/운동 합계 롤업 (주간 통계/챌린지 판정/AI 컨텍스트가 원본 기록 대신 조회)
+CREATE TABLE IF NOT EXISTS daily_user_totals (
+    email VARCHAR(255) NOT NULL,
+    stat_date DATE NOT NULL,
+    carbs DOUBLE NOT NULL DEFAULT 0,
+    protein DOUBLE NOT NULL DEFAULT 0,
+    fat DOUBLE NOT NULL DEFAULT 0,
+    calories DOUBLE NOT NULL DEFAULT 0,
+    diet_count INT NOT NULL DEFAULT 0,
+    exercise_minutes DOUBLE NOT NULL DEFAULT 0,
+    exercise_calories DOUBLE NOT NULL DEFAULT 0,
+    exercise_count INT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (email, stat_date),
+    CONSTRAINT fk_daily_user_totals_account
+        FOREIGN KEY (email) REFERENCES accounts(email) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 2) 기존 기록 backfill
+INSERT INTO daily_user_totals (email, stat_date, carbs, protein, fat, calories, diet_count)
+SELECT
+    dr.email,
+    DATE(dr.recorded_at),
+    COALESCE(SUM(COALESCE(df.serve_count, 0) * COALESCE(f.carbohydrate, 0)), 0),
+    COALESCE(SUM(COALESCE(df.serve_count, 0) * COALESCE(f.protein, 0)), 0),
+    COALESCE(SUM(COALESCE(df.serve_count, 0) * COALESCE(f.fat, 0)), 0),
+    COALESCE(SUM(COALESCE(df.serve_count, 0) * COALESCE(f.calories, 0)), 0),
+    COUNT(DISTINCT dr.id)
+FROM diet_records dr
+         LEFT JOIN diet_foods df ON dr.id = df.diet_id
+         LEFT JOIN foods f ON df.food_id = f.id
+GROUP BY dr.email, DATE(dr.recorded_at);
+
+INSERT INTO daily_user_totals (email, stat_date, exercise_minutes, exercise_calories, exercise_count)
+SELECT
+    er.email,
+    DATE(er.recorded_at) AS d,
+    COALESCE(SUM(er.duration_minutes), 0) AS m,
+    COALESCE(SUM(er.calories), 0) AS c,
+    COUNT(*) AS n
+FROM exercise_records er
+GROUP BY er.email, DATE(er.recorded_at)
+ON DUPLICATE KEY UPDATE
+    exercise_minutes  = VALUES(exercise_minutes),
+    exercise_calories = VALUES(exercise_calories),
+    exercise_count    = VALUES(exercise_count);
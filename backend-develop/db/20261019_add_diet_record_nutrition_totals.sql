@@ -0,0 +1,26 @@
+USE yumyumcoach;
+
+-- 1) 식단별 영양 합계 스냅샷 (기록 시점 값 고정, 집계 시 diet_foods/foods 조인 제거)
+ALTER TABLE diet_records
+    ADD COLUMN total_carbs DOUBLE NOT NULL DEFAULT 0 AFTER image_url,
+    ADD COLUMN total_protein DOUBLE NOT NULL DEFAULT 0 AFTER total_carbs,
+    ADD COLUMN total_fat DOUBLE NOT NULL DEFAULT 0 AFTER total_protein,
+    ADD COLUMN total_calories DOUBLE NOT NULL DEFAULT 0 AFTER total_fat;
+
+-- 2) 기존 기록 backfill (현재 foods 값 기준)
+UPDATE diet_records dr
+    JOIN (
+        SELECT
+            df.diet_id,
+            SUM(COALESCE(df.serve_count, 0) * COALESCE(f.carbohydrate, 0)) AS carbs,
+            SUM(COALESCE(df.serve_count, 0) * COALESCE(f.protein, 0))      AS protein,
+            SUM(COALESCE(df.serve_count, 0) * COALESCE(f.fat, 0))          AS fat,
+            SUM(COALESCE(df.serve_count, 0) * COALESCE(f.calories, 0))    AS calories
+        FROM diet_foods df
+                 JOIN foods f ON df.food_id = f.id
+        GROUP BY df.diet_id
+    ) t ON t.diet_id = dr.id
+SET dr.total_carbs    = t.carbs,
+    dr.total_protein  = t.protein,
+    dr.total_fat      = t.fat,
+    dr.total_calories = t.calories;
@@ -0,0 +1,15 @@
+USE yumyumcoach;
+
+-- 팔로우 그래프 변경 로그 (인스턴스별 메모리 팔로우 그래프 동기화용)
+-- - followed = 1: 팔로우, 0: 언팔로우
+-- - followee_id 가 NULL 이면 follower_id 계정의 모든 관계 제거 (회원 탈퇴)
+-- - 하루가 지난 행은 FollowGraph 가 주기적으로 삭제
+CREATE TABLE IF NOT EXISTS follow_changes (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    follower_id BIGINT UNSIGNED NOT NULL,
+    followee_id BIGINT UNSIGNED DEFAULT NULL,
+    followed TINYINT(1) NOT NULL,
+    changed_at DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_follow_changes_changed_at (changed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,11 @@
+USE yumyumcoach;
+
+-- 1) 팔로우 목록 커서 페이징용 surrogate id (PK 는 (follower_email, followee_email) 유지)
+ALTER TABLE follows
+    ADD COLUMN id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT FIRST,
+    ADD UNIQUE KEY uq_follows_id (id);
+
+-- 2) 팔로잉/팔로워 목록 (followed_at DESC, id DESC) 순서와 일치하는 인덱스
+ALTER TABLE follows
+    ADD KEY idx_follows_follower_followed (follower_email, followed_at, id),
+    ADD KEY idx_follows_followee_followed (followee_email, followed_at, id);
@@ -0,0 +1,24 @@
+USE yumyumcoach;
+
+-- =====================================================================
+-- 조회 빈도가 높은 mapper 문장별 인덱스 정리
+--
+-- 이미 있는 인덱스 (변경 없음)
+--   - exercise_records (email, recorded_at)          : ExerciseRecordMapper.findByEmailAndDate
+--   - post_comments    (post_id, created_at, id)     : 게시글 댓글 목록
+--   - follows          (followee_email, followed_at, id) / (follower_email, followed_at, id) : 팔로우 목록 커서
+--   - posts            (created_at)                  : 게시글 최신순 목록
+--   - daily_user_totals PK (email, stat_date)        : 주간 통계 / 챌린지 성공 일수
+--
+-- 날짜 조건은 모두 [startAt, endAt) 반열림 DATETIME 범위로 바꿔 아래 인덱스를 범위 스캔으로 사용
+-- =====================================================================
+
+-- 1) 하루치 식단 목록 (DietRecordMapper.selectDietRecordsByUserAndDate / selectDietRecordsByUser)
+--    email 단일 FK 인덱스만 있어 날짜 조건과 정렬을 인덱스로 처리하지 못하던 부분
+ALTER TABLE diet_records
+    ADD KEY idx_diet_records_email_recorded_at (email, recorded_at);
+
+-- 2) 대화 메시지 목록 (AiChatMessageMapper.findByConversation: ORDER BY created_at, id)
+ALTER TABLE ai_chat_messages
+    ADD KEY idx_ai_chat_messages_conversation_created (conversation_id, created_at, id),
+    DROP KEY idx_ai_chat_messages_conversation;
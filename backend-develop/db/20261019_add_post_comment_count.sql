@@ -0,0 +1,18 @@
+USE yumyumcoach;
+
+-- 1) 게시글 댓글 수 비정규화 (댓글 목록/피드의 COUNT(*) 제거)
+ALTER TABLE posts
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0 AFTER likes;
+
+-- 2) 기존 댓글 수 backfill
+UPDATE posts p
+    JOIN (
+        SELECT post_id, COUNT(*) AS cnt
+        FROM post_comments
+        GROUP BY post_id
+    ) c ON c.post_id = p.id
+SET p.comment_count = c.cnt;
+
+-- 3) 댓글 커서 페이징 (post_id, created_at, id) 순서와 일치하는 인덱스
+ALTER TABLE post_comments
+    ADD KEY idx_post_comments_post_created (post_id, created_at, id);
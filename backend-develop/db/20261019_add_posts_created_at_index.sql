@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 인기순 랭킹 집계(최근 N일 게시글) 및 최신순 목록 정렬을 인덱스 범위 스캔으로 처리
+ALTER TABLE posts
+    ADD KEY idx_posts_created_at (created_at);
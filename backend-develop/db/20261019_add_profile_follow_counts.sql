@@ -0,0 +1,23 @@
+USE yumyumcoach;
+
+-- 1) 팔로워/팔로잉 수 비정규화 (프로필/마이페이지/팔로우 목록의 COUNT(*) 제거)
+ALTER TABLE profiles
+    ADD COLUMN follower_count INT NOT NULL DEFAULT 0 AFTER display_title_id,
+    ADD COLUMN following_count INT NOT NULL DEFAULT 0 AFTER follower_count;
+
+-- 2) 기존 팔로우 관계 backfill
+UPDATE profiles p
+    JOIN (
+        SELECT followee_email, COUNT(*) AS cnt
+        FROM follows
+        GROUP BY followee_email
+    ) c ON c.followee_email = p.email
+SET p.follower_count = c.cnt;
+
+UPDATE profiles p
+    JOIN (
+        SELECT follower_email, COUNT(*) AS cnt
+        FROM follows
+        GROUP BY follower_email
+    ) c ON c.follower_email = p.email
+SET p.following_count = c.cnt;
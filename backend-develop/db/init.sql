@@ -57,6 +57,8 @@ CREATE TABLE IF NOT EXISTS profiles (
   activity_level VARCHAR(255) DEFAULT NULL,
 
   display_title_id BIGINT UNSIGNED DEFAULT NULL,
+  follower_count INT NOT NULL DEFAULT 0,
+  following_count INT NOT NULL DEFAULT 0,
   PRIMARY KEY (email),
   CONSTRAINT fk_profiles_account
     FOREIGN KEY (email) REFERENCES accounts(email),
@@ -68,14 +70,20 @@ CREATE TABLE IF NOT EXISTS profiles (
 CREATE TABLE IF NOT EXISTS posts (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   author_email VARCHAR(255) NOT NULL,
+  author_id BIGINT UNSIGNED NOT NULL,
   title VARCHAR(255) NOT NULL,
   category VARCHAR(255) DEFAULT NULL,
   content TEXT DEFAULT NULL,
   created_at DATETIME NOT NULL,
   likes INT NOT NULL DEFAULT 0,
+  comment_count INT NOT NULL DEFAULT 0,
   PRIMARY KEY (id),
+  KEY idx_posts_created_at (created_at),
+  KEY idx_posts_author_id (author_id),
   CONSTRAINT fk_posts_author
-    FOREIGN KEY (author_email) REFERENCES accounts(email)
+    FOREIGN KEY (author_email) REFERENCES accounts(email),
+  CONSTRAINT fk_posts_author_id
+    FOREIGN KEY (author_id) REFERENCES accounts(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 6) post_images
@@ -95,38 +103,57 @@ CREATE TABLE IF NOT EXISTS post_comments (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   post_id BIGINT UNSIGNED NOT NULL,
   author_email VARCHAR(255) NOT NULL,
+  author_id BIGINT UNSIGNED NOT NULL,
   content TEXT NOT NULL,
   created_at DATETIME NOT NULL,
   PRIMARY KEY (id),
+  KEY idx_post_comments_post_created (post_id, created_at, id),
+  KEY idx_post_comments_author_id (author_id),
   CONSTRAINT fk_post_comments_post
     FOREIGN KEY (post_id) REFERENCES posts(id),
   CONSTRAINT fk_post_comments_author
-    FOREIGN KEY (author_email) REFERENCES accounts(email)
+    FOREIGN KEY (author_email) REFERENCES accounts(email),
+  CONSTRAINT fk_post_comments_author_id
+    FOREIGN KEY (author_id) REFERENCES accounts(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 8) post_likes (중복 제거, 최종 1회만)
 CREATE TABLE IF NOT EXISTS post_likes (
   post_id BIGINT UNSIGNED NOT NULL,
   email VARCHAR(255) NOT NULL,
+  account_id BIGINT UNSIGNED NOT NULL,
   created_at DATETIME NOT NULL,
   PRIMARY KEY (post_id, email),
+  UNIQUE KEY uq_post_likes_post_account (post_id, account_id),
   KEY idx_post_likes_email_created_at (email, created_at),
+  KEY idx_post_likes_account_created_at (account_id, created_at),
   CONSTRAINT fk_post_likes_post
     FOREIGN KEY (post_id) REFERENCES posts(id),
   CONSTRAINT fk_post_likes_account
-    FOREIGN KEY (email) REFERENCES accounts(email)
+    FOREIGN KEY (email) REFERENCES accounts(email),
+  CONSTRAINT fk_post_likes_account_id
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 9) diet_records
 CREATE TABLE IF NOT EXISTS diet_records (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   email VARCHAR(255) NOT NULL,
+  account_id BIGINT UNSIGNED NOT NULL,
   recorded_at DATETIME NOT NULL,
   meal_type VARCHAR(255) NOT NULL,
   image_url VARCHAR(1024) DEFAULT NULL,
+  total_carbs DOUBLE NOT NULL DEFAULT 0,
+  total_protein DOUBLE NOT NULL DEFAULT 0,
+  total_fat DOUBLE NOT NULL DEFAULT 0,
+  total_calories DOUBLE NOT NULL DEFAULT 0,
   PRIMARY KEY (id),
+  KEY idx_diet_records_email_recorded_at (email, recorded_at),
+  KEY idx_diet_records_account_recorded_at (account_id, recorded_at),
   CONSTRAINT fk_diet_records_account
-    FOREIGN KEY (email) REFERENCES accounts(email)
+    FOREIGN KEY (email) REFERENCES accounts(email),
+  CONSTRAINT fk_diet_records_account_id
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 10) foods
@@ -170,14 +197,18 @@ CREATE TABLE IF NOT EXISTS exercises (
 CREATE TABLE IF NOT EXISTS exercise_records (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   email VARCHAR(255) NOT NULL,
+  account_id BIGINT UNSIGNED NOT NULL,
   exercise_id BIGINT UNSIGNED NOT NULL,
   recorded_at DATETIME NOT NULL,
   duration_minutes DOUBLE NOT NULL,
   calories DOUBLE NOT NULL,
   PRIMARY KEY (id),
   KEY idx_exercise_records_email_recorded_at (email, recorded_at),
+  KEY idx_exercise_records_account_recorded_at (account_id, recorded_at),
   CONSTRAINT fk_exercise_records_account
     FOREIGN KEY (email) REFERENCES accounts(email),
+  CONSTRAINT fk_exercise_records_account_id
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
   CONSTRAINT fk_exercise_records_exercise
     FOREIGN KEY (exercise_id) REFERENCES exercises(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -237,6 +268,7 @@ CREATE TABLE IF NOT EXISTS challenge_rules (
 CREATE TABLE IF NOT EXISTS challenge_participants (
   challenge_id BIGINT UNSIGNED NOT NULL,
   email VARCHAR(255) NOT NULL,
+  account_id BIGINT UNSIGNED NOT NULL,
   joined_at DATETIME NOT NULL,
 
   status VARCHAR(255) NOT NULL DEFAULT 'joined',
@@ -252,10 +284,14 @@ CREATE TABLE IF NOT EXISTS challenge_participants (
   completed_at DATETIME DEFAULT NULL,
 
   PRIMARY KEY (challenge_id, email),
+  UNIQUE KEY uq_challenge_participants_challenge_account (challenge_id, account_id),
+  KEY idx_challenge_participants_account_id (account_id),
   CONSTRAINT fk_challenge_participants_challenge
     FOREIGN KEY (challenge_id) REFERENCES challenges(id),
   CONSTRAINT fk_challenge_participants_account
     FOREIGN KEY (email) REFERENCES accounts(email),
+  CONSTRAINT fk_challenge_participants_account_id
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
   CONSTRAINT fk_challenge_participants_difficulty
     FOREIGN KEY (difficulty_code) REFERENCES challenge_difficulties(code)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -265,12 +301,16 @@ CREATE TABLE IF NOT EXISTS account_titles (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   title_id BIGINT UNSIGNED NOT NULL,
   email VARCHAR(255) NOT NULL,
+  account_id BIGINT UNSIGNED NOT NULL,
   obtained_at DATETIME NOT NULL,
   source_challenge_id BIGINT UNSIGNED DEFAULT NULL,
   PRIMARY KEY (id),
   UNIQUE KEY uq_account_titles_email_title (email, title_id),
+  UNIQUE KEY uq_account_titles_account_title (account_id, title_id),
   CONSTRAINT fk_account_titles_account
     FOREIGN KEY (email) REFERENCES accounts(email),
+  CONSTRAINT fk_account_titles_account_id
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
   CONSTRAINT fk_account_titles_title
     FOREIGN KEY (title_id) REFERENCES titles(id),
   CONSTRAINT fk_account_titles_challenge
@@ -279,14 +319,26 @@ CREATE TABLE IF NOT EXISTS account_titles (
 
 -- 19) follows
 CREATE TABLE IF NOT EXISTS follows (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   follower_email VARCHAR(255) NOT NULL,
   followee_email VARCHAR(255) NOT NULL,
+  follower_id BIGINT UNSIGNED NOT NULL,
+  followee_id BIGINT UNSIGNED NOT NULL,
   followed_at DATETIME NOT NULL,
   PRIMARY KEY (follower_email, followee_email),
+  UNIQUE KEY uq_follows_id (id),
+  KEY idx_follows_follower_followed (follower_email, followed_at, id),
+  KEY idx_follows_followee_followed (followee_email, followed_at, id),
+  UNIQUE KEY uq_follows_follower_followee_id (follower_id, followee_id),
+  KEY idx_follows_followee_id (followee_id),
   CONSTRAINT fk_follows_follower
     FOREIGN KEY (follower_email) REFERENCES accounts(email),
   CONSTRAINT fk_follows_followee
-    FOREIGN KEY (followee_email) REFERENCES accounts(email)
+    FOREIGN KEY (followee_email) REFERENCES accounts(email),
+  CONSTRAINT fk_follows_follower_id
+    FOREIGN KEY (follower_id) REFERENCES accounts(id) ON DELETE CASCADE,
+  CONSTRAINT fk_follows_followee_id
+    FOREIGN KEY (followee_id) REFERENCES accounts(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 20) ai_meal_plans
@@ -376,7 +428,7 @@ CREATE TABLE IF NOT EXISTS ai_chat_messages (
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (id),
-    KEY idx_ai_chat_messages_conversation (conversation_id),
+    KEY idx_ai_chat_messages_conversation_created (conversation_id, created_at, id),
     CONSTRAINT fk_ai_chat_message_conversation FOREIGN KEY (conversation_id) REFERENCES ai_chat_conversations(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
@@ -396,3 +448,32 @@ CREATE TABLE IF NOT EXISTS ai_chat_jobs (
     CONSTRAINT fk_ai_chat_job_user_message FOREIGN KEY (user_message_id) REFERENCES ai_chat_messages(id) ON DELETE CASCADE,
     CONSTRAINT fk_ai_chat_job_assistant_message FOREIGN KEY (assistant_message_id) REFERENCES ai_chat_messages(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 26) follow_changes (메모리 팔로우 그래프 동기화용 변경 로그)
+CREATE TABLE IF NOT EXISTS follow_changes (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    follower_id BIGINT UNSIGNED NOT NULL,
+    followee_id BIGINT UNSIGNED DEFAULT NULL,
+    followed TINYINT(1) NOT NULL,
+    changed_at DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_follow_changes_changed_at (changed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 27) daily_user_totals (사용자별 일일 식단/운동 합계 롤업, 기록 쓰기 트랜잭션에서 함께 갱신)
+CREATE TABLE IF NOT EXISTS daily_user_totals (
+    email VARCHAR(255) NOT NULL,
+    stat_date DATE NOT NULL,
+    carbs DOUBLE NOT NULL DEFAULT 0,
+    protein DOUBLE NOT NULL DEFAULT 0,
+    fat DOUBLE NOT NULL DEFAULT 0,
+    calories DOUBLE NOT NULL DEFAULT 0,
+    diet_count INT NOT NULL DEFAULT 0,
+    exercise_minutes DOUBLE NOT NULL DEFAULT 0,
+    exercise_calories DOUBLE NOT NULL DEFAULT 0,
+    exercise_count INT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (email, stat_date),
+    CONSTRAINT fk_daily_user_totals_account
+        FOREIGN KEY (email) REFERENCES accounts(email) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
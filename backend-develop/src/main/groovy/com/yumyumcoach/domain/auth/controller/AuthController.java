@@ -2,6 +2,8 @@ package com.yumyumcoach.domain.auth.controller;
 
 import com.yumyumcoach.domain.auth.dto.*;
 import com.yumyumcoach.domain.auth.service.AuthService;
+import com.yumyumcoach.global.common.AuthUser;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,18 +20,19 @@ public class AuthController {
 
     // 로그인
     @PostMapping("/sign-in")
-    public ResponseEntity<SignInResponse> login(@Valid @RequestBody SignInRequest request) {
+    public ResponseEntity<SignInResponse> login(@Valid @RequestBody SignInRequest request,
+                                                HttpServletRequest httpRequest) {
 
-        SignInResponse response = authService.SignIn(request);
+        SignInResponse response = authService.SignIn(request, httpRequest.getRemoteAddr());
 
         return ResponseEntity.ok(response);
     }
 
     // 로그아웃
     @DeleteMapping("/sign-out")
-    public ResponseEntity<SignOutResponse> logout(@AuthenticationPrincipal String email,
+    public ResponseEntity<SignOutResponse> logout(@AuthenticationPrincipal AuthUser authUser,
                                                   @RequestBody SignOutRequest request) {
-        SignOutResponse response = authService.SingOut(email, request.getRefreshToken());
+        SignOutResponse response = authService.SingOut(authUser.email(), request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
 
@@ -49,16 +52,18 @@ public class AuthController {
 
     // 회원 가입
     @PostMapping("/sign-up")
-    public ResponseEntity<SignUpResponse> signup(@Valid @RequestBody SignUpRequest request) {
-        SignUpResponse response = authService.signUp(request);
+    public ResponseEntity<SignUpResponse> signup(@Valid @RequestBody SignUpRequest request,
+                                                 HttpServletRequest httpRequest) {
+        SignUpResponse response = authService.signUp(request, httpRequest.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     // 회원 탈퇴
     @DeleteMapping("/withdraw")
-    public ResponseEntity<WithdrawResponse> withdraw(@AuthenticationPrincipal String email,
-                                                     @Valid @RequestBody WithdrawRequest request) {
-        WithdrawResponse response = authService.withdraw(email, request);
+    public ResponseEntity<WithdrawResponse> withdraw(@AuthenticationPrincipal AuthUser authUser,
+                                                     @Valid @RequestBody WithdrawRequest request,
+                                                     HttpServletRequest httpRequest) {
+        WithdrawResponse response = authService.withdraw(authUser.email(), request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -3,6 +3,7 @@ package com.yumyumcoach.domain.auth.mapper;
 import com.yumyumcoach.domain.auth.entity.Account;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 /*
 login 로직에서 필요한 email 로 회원찾기
@@ -42,4 +43,12 @@ public interface AccountMapper {
      * - 응답에 userId가 필요할 때 사용
      */
     Long findIdByEmail(@Param("email") String email);
+
+    // 전체 계정 수 (가입 여부 필터 크기 산정용)
+    long countAccounts();
+
+    /**
+     * 전체 계정의 email/username 스트리밍 조회 (가입 여부 필터 적재용, 전체 목록을 한 번에 들고 있지 않음)
+     */
+    void streamEmailsAndUsernames(ResultHandler<Account> handler);
 }
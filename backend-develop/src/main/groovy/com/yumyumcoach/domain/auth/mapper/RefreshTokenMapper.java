@@ -22,10 +22,16 @@ public interface RefreshTokenMapper {
     RefreshToken findByEmailAndHash(@Param("email") String email,
                                     @Param("tokenHash") String tokenHash);
 
+    // 현재 해시가 oldHash 일 때만 교체 (다른 요청/인스턴스가 먼저 회전했거나 로그아웃했으면 0)
+    int rotate(@Param("email") String email,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
     int deleteByEmailAndHash(@Param("email") String email,
                              @Param("tokenHash") String tokenHash);
 
     int deleteByEmail(@Param("email") String email);
 
-    int deleteExpired();
+    int deleteExpired(@Param("limit") int limit);
 }
@@ -0,0 +1,106 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.entity.Account;
+import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.global.common.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 사전 확인용 Bloom filter.
+ * - 필터에 없으면 "확실히 사용 가능" -> DB 조회 없이 응답
+ * - 필터에 있으면 오탐일 수 있으므로 DB 로 확인
+ * - 기동 시 전체 계정으로 만들고, 가입/닉네임 변경 시 바로 추가
+ * - Bloom filter 는 삭제가 안 되므로 탈퇴/닉네임 변경으로 풀린 값은 오탐으로 남음 (DB 확인으로 정확도는 유지)
+ *   -> 주기적으로 새로 만들어 오탐을 정리하고, 다른 인스턴스에서 가입한 계정도 반영
+ * - 가입 시 DB 중복 확인/UNIQUE 제약은 그대로라 필터가 늦게 반영돼도 중복 가입은 생기지 않음
+ * - 키는 악센트 제거(NFD 후 결합 문자 삭제) + 소문자 + 뒤쪽 공백 제거로 정규화 (accounts 의 utf8mb4_general_ci 비교 규칙에 맞춤, é = e)
+ *   general_ci 의 나머지 동등 규칙(ß = s 등)까지 다 흉내내지는 않으므로, 최종 판단은 가입 시 DB 중복 확인 + UNIQUE 제약이 맡음
+ *   (필터가 "사용 가능"이라 답한 값도 가입 단계에서 중복으로 거절될 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountAvailabilityFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // 다음 재생성 전까지 새 가입/닉네임 변경을 받아낼 여유분
+    private static final long HEADROOM = 10_000;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final AccountMapper accountMapper;
+
+    // null 이면 아직 적재 전 -> 항상 DB 확인
+    private volatile Filters filters;
+    // 재생성 중에 들어온 추가분도 새 필터에 반영하기 위해 만드는 중인 필터를 노출
+    private volatile Filters building;
+
+    public boolean isEmailDefinitelyAvailable(String email) {
+        Filters current = filters;
+        return current != null && !current.emails.mightContain(normalize(email));
+    }
+
+    public boolean isUsernameDefinitelyAvailable(String username) {
+        Filters current = filters;
+        return current != null && !current.usernames.mightContain(normalize(username));
+    }
+
+    public void addEmail(String email) {
+        String key = normalize(email);
+        forEachFilter(f -> f.emails.add(key));
+    }
+
+    public void addUsername(String username) {
+        String key = normalize(username);
+        forEachFilter(f -> f.usernames.add(key));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public synchronized void rebuild() {
+        long expected = accountMapper.countAccounts() * 2 + HEADROOM;
+        Filters fresh = new Filters(
+                new BloomFilter(expected, FALSE_POSITIVE_RATE),
+                new BloomFilter(expected, FALSE_POSITIVE_RATE)
+        );
+        building = fresh;
+        try {
+            accountMapper.streamEmailsAndUsernames(context -> {
+                Account account = context.getResultObject();
+                fresh.emails.add(normalize(account.getEmail()));
+                fresh.usernames.add(normalize(account.getUsername()));
+            });
+            filters = fresh;
+        } finally {
+            building = null;
+        }
+    }
+
+    // building 을 filters 보다 먼저 읽어야 함: 반대로 읽으면 교체 직전의 filters 와 교체 직후의 building(null)을 잡아
+    // 새 필터에 빠질 수 있음 (rebuild 는 filters 교체 후에 building 을 비우므로 이 순서면 둘 중 하나에는 반드시 들어감)
+    private void forEachFilter(Consumer<Filters> action) {
+        Filters next = building;
+        Filters current = filters;
+        if (next != null) {
+            action.accept(next);
+        }
+        if (current != null && current != next) {
+            action.accept(current);
+        }
+    }
+
+    static String normalize(String value) {
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return folded.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter usernames) {
+    }
+}
@@ -2,21 +2,25 @@ package com.yumyumcoach.domain.auth.service;
 
 import com.yumyumcoach.domain.auth.dto.*;
 import com.yumyumcoach.domain.auth.entity.Account;
-import com.yumyumcoach.domain.auth.entity.RefreshToken;
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
-import com.yumyumcoach.domain.auth.mapper.RefreshTokenMapper;
+import com.yumyumcoach.domain.community.event.PostChangedEvent;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.user.event.FollowChangedEvent;
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
+import com.yumyumcoach.domain.user.mapper.FollowMapper;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.global.common.CredentialValidator;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import com.yumyumcoach.global.jwt.JwtTokenProvider;
+import com.yumyumcoach.global.jwt.TokenClaims;
 import com.yumyumcoach.global.jwt.TokenHashUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.regex.Pattern;
@@ -29,17 +33,26 @@ public class AuthService {
 
     private final AccountMapper accountMapper;
     private final ProfileMapper profileMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final AccountAvailabilityFilter accountAvailabilityFilter;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
     private final PostMapper postMapper;
     private final PostCommentMapper postCommentMapper;
+    private final FollowMapper followMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
 
     //이메일 중복확인
     @Transactional(readOnly = true)
     public boolean isEmailAvailable(String email) {
         CredentialValidator.validateEmail(email);
+        // 필터에 없으면 확실히 미가입 -> DB 조회 생략
+        if (accountAvailabilityFilter.isEmailDefinitelyAvailable(email)) {
+            return true;
+        }
         return !accountMapper.existsByEmail(email);
     }
 
@@ -47,13 +60,17 @@ public class AuthService {
     @Transactional(readOnly = true)
     public boolean isUsernameAvailable(String username) {
         CredentialValidator.validateUsername(username);
+        if (accountAvailabilityFilter.isUsernameDefinitelyAvailable(username)) {
+            return true;
+        }
         return !accountMapper.existsByUsername(username);
     }
 
     // 로그인: DB 에 저장된 이메일인지와 확인, 비밀번호가 일치하는지 확인 후 access token 과 refresh token 생성 후 로그인
-    @Transactional(readOnly = false)
-    public SignInResponse SignIn(SignInRequest request) {
+    // (조회 1번 + upsert 1번이라 트랜잭션 없이 실행: 해싱 대기 중에 DB 커넥션을 잡고 있지 않도록)
+    public SignInResponse SignIn(SignInRequest request, String clientIp) {
         blockIfDeletedSystemEmail(request.getEmail());
+        loginAttemptLimiter.acquire(clientIp, request.getEmail());
 
         Account account = accountMapper.findByEmail(request.getEmail());
 
@@ -62,13 +79,15 @@ public class AuthService {
             throw new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS, "등록되지 않은 회원입니다.");
         }
         // 이메일은 DB 에 존재하나 비밀번호가 틀렸을 때
-        else if(!passwordEncoder.matches(request.getPassword(), account.getPassword())) {
+        else if(!passwordHashExecutor.matches(request.getPassword(), account.getPassword())) {
+            loginAttemptLimiter.recordFailure(account.getEmail());
             throw new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS, "비밀번호가 일치하지 않습니다.");
         }
+        loginAttemptLimiter.recordSuccess(account.getEmail());
 
         //access token 생성, refresh token 생성
-        String accessToken = jwtTokenProvider.createAccessToken(account.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(account.getEmail());
+        String accessToken = jwtTokenProvider.createAccessToken(account.getId(), account.getEmail());
+        String refreshToken = jwtTokenProvider.createRefreshToken(account.getId(), account.getEmail());
 
         saveRefreshToken(account.getEmail(), refreshToken);
 
@@ -100,10 +119,11 @@ public class AuthService {
     }
 
     // 회원가입: 이메일/닉네임 형식 및 중복 확인 후 계정 저장
-    @Transactional
-    public SignUpResponse signUp(SignUpRequest request) {
+    // (해싱은 트랜잭션 밖에서 먼저: 해싱 슬롯 대기 중에 DB 커넥션을 잡고 있지 않도록, 저장만 트랜잭션으로 묶음)
+    public SignUpResponse signUp(SignUpRequest request, String clientIp) {
         CredentialValidator.validateEmail(request.getEmail());
         CredentialValidator.validateUsername(request.getUsername());
+        loginAttemptLimiter.acquire(clientIp, null);
 
         if (accountMapper.existsByEmail(request.getEmail())) {
             throw new BusinessException(ErrorCode.AUTH_EMAIL_ALREADY_EXISTS);
@@ -112,14 +132,20 @@ public class AuthService {
             throw new BusinessException(ErrorCode.AUTH_USERNAME_ALREADY_EXISTS);
         }
 
-        createAccount(request);
-        profileMapper.insertEmpty(request.getEmail());
+        String encodedPassword = passwordHashExecutor.encode(request.getPassword());
+        Account newAccount = new Account(null, request.getEmail(), request.getUsername(), encodedPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            accountMapper.insertNewAccount(newAccount);
+            profileMapper.insertEmpty(request.getEmail());
+        });
+        accountAvailabilityFilter.addEmail(request.getEmail());
+        accountAvailabilityFilter.addUsername(request.getUsername());
         return new SignUpResponse(request.getEmail(), request.getUsername());
     }
 
     // 회원탈퇴: 회원 탈퇴 하려는 사용자의 계정을 DB 에서 삭제
-    @Transactional
-    public WithdrawResponse withdraw(String authenticatedEmail, WithdrawRequest request) {
+    // (비밀번호 확인까지는 트랜잭션 밖, 확인 후 삭제 작업만 한 트랜잭션으로 실행)
+    public WithdrawResponse withdraw(String authenticatedEmail, WithdrawRequest request, String clientIp) {
 
         // refresh token 존재 여부 및 유효성 검사
         checkRefreshTokenPresence(request.getRefreshToken());
@@ -135,46 +161,70 @@ public class AuthService {
         }
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), account.getPassword())) {
+        loginAttemptLimiter.acquire(clientIp, authenticatedEmail);
+        if (!passwordHashExecutor.matches(request.getPassword(), account.getPassword())) {
+            loginAttemptLimiter.recordFailure(authenticatedEmail);
             throw new BusinessException(ErrorCode.AUTH_INVALID_CREDENTIALS, "비밀번호가 일치하지 않습니다.");
         }
 
+        transactionTemplate.executeWithoutResult(status ->
+                deleteAccount(authenticatedEmail, account.getId(), request.getRefreshToken(), emailFromToken));
+
+        return new WithdrawResponse("회원탈퇴가 완료되었습니다.");
+    }
+
+    private void deleteAccount(String email, Long accountId, String refreshToken, String emailFromToken) {
         // refresh token 삭제
-        deleteRefreshToken(request.getRefreshToken(), emailFromToken);
+        deleteRefreshToken(refreshToken, emailFromToken);
 
         // 커뮤니티 컨텐츠(게시글/댓글) 작성자 이메일을 시스템 탈퇴 계정으로 치환
-        postCommentMapper.replaceAuthorEmail(authenticatedEmail, DELETED_SYSTEM_EMAIL);
-        postMapper.replaceAuthorEmail(authenticatedEmail, DELETED_SYSTEM_EMAIL);
+        postCommentMapper.replaceAuthorEmail(email, DELETED_SYSTEM_EMAIL);
+        postMapper.replaceAuthorEmail(email, DELETED_SYSTEM_EMAIL);
+        eventPublisher.publishEvent(PostChangedEvent.allPosts());
 
-        // 계정 삭제
-        accountMapper.deleteAccountByEmail(authenticatedEmail);
+        // 팔로우 관계는 계정 삭제 시 CASCADE 로 지워지므로 상대편 팔로워/팔로잉 수를 먼저 차감
+        followMapper.releaseFollowerCountsOf(email);
+        followMapper.releaseFollowingCountsOf(email);
+        followMapper.insertFollowChange(accountId, null, false);
+        eventPublisher.publishEvent(FollowChangedEvent.accountRemoved(accountId, email));
 
-        return new WithdrawResponse("회원탈퇴가 완료되었습니다.");
+        // 계정 삭제
+        accountMapper.deleteAccountByEmail(email);
+        // 탈퇴 계정의 팔로우 관계가 함께 사라지므로 다른 사용자 프로필의 팔로우 수도 바뀜
+        eventPublisher.publishEvent(UserChangedEvent.allUsers());
     }
 
     @Transactional
     public RefreshResponse refreshTokens(RefreshRequest request) {
 
-         // refresh token 검증
+         // refresh token 검증 (서명 검증 + 클레임 추출 1회)
         checkRefreshTokenPresence(request.getRefreshToken());
-        jwtTokenProvider.validateToken(request.getRefreshToken());
+        TokenClaims claims = jwtTokenProvider.parseClaims(request.getRefreshToken());
 
         // 클라이언트가 보낸 refresh token 이 이 서버에 저장된 것과 일치하는지 확인
-        String emailFromToken = jwtTokenProvider.getEmail(request.getRefreshToken());
+        String emailFromToken = claims.email();
         blockIfDeletedSystemEmail(emailFromToken);
         String tokenHash = TokenHashUtil.sha256Hex(request.getRefreshToken());
 
-        RefreshToken savedToken = refreshTokenMapper.findByEmailAndHash(emailFromToken, tokenHash);
-        if (savedToken == null) {
+        if (!refreshTokenStore.matches(emailFromToken, tokenHash)) {
             throw new BusinessException(ErrorCode.AUTH_INVALID_REFRESH_TOKEN);
         }
 
-        // 새 토큰들 형성
-        String newAccessToken = jwtTokenProvider.createAccessToken(emailFromToken);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(emailFromToken);
+        // 새 토큰들 형성 (uid 클레임이 없는 이전 refresh token 만 계정 id 조회)
+        Long accountId = claims.accountId() != null
+                ? claims.accountId()
+                : accountMapper.findIdByEmail(emailFromToken);
+        if (accountId == null) {
+            throw new BusinessException(ErrorCode.AUTH_INVALID_REFRESH_TOKEN);
+        }
+        String newAccessToken = jwtTokenProvider.createAccessToken(accountId, emailFromToken);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(accountId, emailFromToken);
 
-        // 새 refresh token 해시로 교체(회전)
-        saveRefreshToken(emailFromToken, newRefreshToken);
+        // 새 refresh token 해시로 교체(회전): 그 사이 다른 요청이 먼저 회전/로그아웃했으면 실패
+        if (!refreshTokenStore.rotate(emailFromToken, tokenHash,
+                TokenHashUtil.sha256Hex(newRefreshToken), refreshTokenExpiresAt())) {
+            throw new BusinessException(ErrorCode.AUTH_INVALID_REFRESH_TOKEN);
+        }
 
         return new RefreshResponse(
                 newAccessToken,
@@ -185,17 +235,14 @@ public class AuthService {
         );
     }
 
-    private void createAccount(SignUpRequest request) {
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
-        Account newAccount = new Account(null, request.getEmail(), request.getUsername(), encodedPassword);
-        accountMapper.insertNewAccount(newAccount);
-    }
-
     private void saveRefreshToken(String email, String refreshToken) {
         String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
-        LocalDateTime expiresAt = LocalDateTime.now()
+        refreshTokenStore.save(email, tokenHash, refreshTokenExpiresAt());
+    }
+
+    private LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now()
                 .plusSeconds(jwtTokenProvider.getRefreshTokenExpirationSeconds());
-        refreshTokenMapper.upsert(email, tokenHash, expiresAt);
     }
 
     private static void checkRefreshTokenPresence(String refreshToken) {
@@ -214,7 +261,7 @@ public class AuthService {
 
     private void deleteRefreshToken(String refreshToken, String emailFromToken) {
         String tokenHash = TokenHashUtil.sha256Hex(refreshToken);
-        int deleted = refreshTokenMapper.deleteByEmailAndHash(emailFromToken, tokenHash);
+        int deleted = refreshTokenStore.delete(emailFromToken, tokenHash);
         if (deleted == 0) {
             throw new BusinessException(ErrorCode.AUTH_INVALID_REFRESH_TOKEN);
         }
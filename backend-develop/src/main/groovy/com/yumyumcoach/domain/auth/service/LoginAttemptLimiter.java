@@ -0,0 +1,71 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비밀번호 해싱이 필요한 인증 요청(로그인/회원가입/탈퇴)의 시도 횟수 제한.
+ * - IP 별: IP_WINDOW 동안 MAX_ATTEMPTS_PER_IP 회까지 (성공/실패 무관, 해싱 자체를 제한)
+ * - 계정별: ACCOUNT_WINDOW 동안 비밀번호 MAX_FAILURES_PER_ACCOUNT 회 실패 시 차단, 성공하면 초기화
+ * - 카운터는 첫 시도 시각부터 창(window)이 끝나면 만료되는 고정 창 방식 (인스턴스 로컬)
+ * - 증가/초기화는 키 단위 ConcurrentHashMap.compute/remove 로 원자적으로 처리 (동시 실패가 누락되지 않도록)
+ * - 제한에 걸리면 해싱 전에 AUTH_TOO_MANY_ATTEMPTS(429) 로 거절
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int MAX_ATTEMPTS_PER_IP = 30;
+    private static final Duration IP_WINDOW = Duration.ofMinutes(1);
+    private static final int MAX_FAILURES_PER_ACCOUNT = 10;
+    private static final Duration ACCOUNT_WINDOW = Duration.ofMinutes(15);
+    private static final int MAX_TRACKED_KEYS = 50_000;
+
+    private final Map<String, Window> attemptsByIp = new ConcurrentHashMap<>();
+    private final Map<String, Window> failuresByAccount = new ConcurrentHashMap<>();
+
+    /**
+     * IP 시도 횟수 증가 + 계정 차단 여부 확인 (해싱 전에 호출)
+     */
+    public void acquire(String clientIp, String email) {
+        if (clientIp != null && increment(attemptsByIp, clientIp, IP_WINDOW) > MAX_ATTEMPTS_PER_IP) {
+            throw new BusinessException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        }
+        if (email != null && current(failuresByAccount, email) >= MAX_FAILURES_PER_ACCOUNT) {
+            throw new BusinessException(ErrorCode.AUTH_TOO_MANY_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String email) {
+        increment(failuresByAccount, email, ACCOUNT_WINDOW);
+    }
+
+    public void recordSuccess(String email) {
+        failuresByAccount.remove(email);
+    }
+
+    private static int increment(Map<String, Window> counters, String key, Duration window) {
+        long now = System.currentTimeMillis();
+        if (counters.size() >= MAX_TRACKED_KEYS) {
+            counters.values().removeIf(w -> w.isExpired(now));
+        }
+        return counters.compute(key, (k, w) -> w == null || w.isExpired(now)
+                ? new Window(1, now + window.toMillis())
+                : new Window(w.count() + 1, w.expiresAt())).count();
+    }
+
+    private static int current(Map<String, Window> counters, String key) {
+        Window window = counters.get(key);
+        return window == null || window.isExpired(System.currentTimeMillis()) ? 0 : window.count();
+    }
+
+    private record Window(int count, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/비교 전용 실행기.
+ * - BCrypt 는 일부러 CPU 를 많이 쓰므로 Tomcat 요청 스레드가 아니라 코어 수에 맞춘 고정 크기 풀에서만 실행
+ *   (코어 절반만 사용해서 로그인 폭주 중에도 나머지 API 가 CPU 를 쓸 수 있게 함)
+ * - 대기열이 가득 차거나 대기 시간이 MAX_QUEUE_WAIT 를 넘으면 해싱하지 않고 AUTH_BUSY(503) 로 거절 (admission control)
+ * - 대기 시간/거절 수는 1분마다 로그로 남기고 초기화
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_CAPACITY = THREADS * 16;
+    private static final Duration MAX_QUEUE_WAIT = Duration.ofSeconds(2);
+    private static final Duration MAX_TOTAL_WAIT = Duration.ofSeconds(5);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                THREADS, THREADS,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T run(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                started.incrementAndGet();
+                totalQueueWaitNanos.addAndGet(waited);
+                maxQueueWaitNanos.accumulate(waited);
+                // 너무 오래 기다린 요청은 클라이언트가 이미 포기했을 가능성이 커서 CPU 를 쓰지 않음
+                if (waited > MAX_QUEUE_WAIT.toNanos()) {
+                    rejected.incrementAndGet();
+                    throw new BusinessException(ErrorCode.AUTH_BUSY);
+                }
+                T result = task.get();
+                completed.incrementAndGet();
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(MAX_TOTAL_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void logStats() {
+        long dequeued = started.getAndSet(0);
+        long done = completed.getAndSet(0);
+        long refused = rejected.getAndSet(0);
+        long waitNanos = totalQueueWaitNanos.getAndSet(0);
+        long maxWaitNanos = maxQueueWaitNanos.getThenReset();
+        if (done == 0 && refused == 0) {
+            return;
+        }
+        log.info("password-hash: completed={}, rejected={}, avgQueueWaitMs={}, maxQueueWaitMs={}, queued={}",
+                done, refused,
+                dequeued == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos / dequeued),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+                executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
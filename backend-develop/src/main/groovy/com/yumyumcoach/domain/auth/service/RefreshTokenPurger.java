@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.mapper.RefreshTokenMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 만료된 refresh token 정리 작업.
+ * - 로그아웃/탈퇴 없이 만료된 토큰은 어디서도 지워지지 않아 refresh_tokens 가 계속 커지므로 주기적으로 삭제
+ * - CHUNK_SIZE 단위 DELETE ... LIMIT 를 반복 (청크마다 auto-commit 이라 로그인/재발급이 오래 대기하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenPurger {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    @Scheduled(cron = "0 45 * * * *")
+    public void purgeExpired() {
+        int deleted;
+        do {
+            deleted = refreshTokenMapper.deleteExpired(CHUNK_SIZE);
+        } while (deleted == CHUNK_SIZE);
+    }
+}
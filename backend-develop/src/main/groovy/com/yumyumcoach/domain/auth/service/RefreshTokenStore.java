@@ -0,0 +1,86 @@
+package com.yumyumcoach.domain.auth.service;
+
+import com.yumyumcoach.domain.auth.entity.RefreshToken;
+import com.yumyumcoach.domain.auth.mapper.RefreshTokenMapper;
+import com.yumyumcoach.global.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * refresh_tokens 접근 + 사용자별 현재 토큰 해시 캐시.
+ * - 회전(refresh) 시 현재 해시 확인은 캐시에서 먼저 하고, 캐시에 없거나 다르면 DB 를 한 번 다시 읽음
+ * - 실제 교체는 "현재 해시가 oldHash 일 때만" 바꾸는 조건부 UPDATE 한 번
+ *   -> 다른 인스턴스에서 이미 회전/로그아웃되어 캐시가 오래됐더라도 이전 토큰으로는 재발급되지 않음
+ * - 로그인/회전/로그아웃/탈퇴 시 캐시를 함께 갱신하거나 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final int MAX_SIZE = 20_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    private final LocalCache<String, RefreshToken> currentTokens = new LocalCache<>(MAX_SIZE, TTL);
+
+    /**
+     * 로그인: 사용자별 refresh token 1개 (기존 토큰은 교체)
+     */
+    public void save(String email, String tokenHash, LocalDateTime expiresAt) {
+        refreshTokenMapper.upsert(email, tokenHash, expiresAt);
+        cache(email, tokenHash, expiresAt);
+    }
+
+    /**
+     * 저장된 현재 토큰 해시와 일치하는지 확인 (캐시 우선)
+     */
+    public boolean matches(String email, String tokenHash) {
+        RefreshToken cached = currentTokens.get(email);
+        if (cached != null && tokenHash.equals(cached.getTokenHash())) {
+            return true;
+        }
+
+        // 캐시에 없거나, 다른 인스턴스에서 회전되어 캐시가 오래됐을 수 있으므로 DB 확인
+        RefreshToken saved = refreshTokenMapper.findByEmail(email);
+        if (saved == null) {
+            currentTokens.invalidate(email);
+            return false;
+        }
+        currentTokens.put(email, saved, toEpochMillis(saved.getExpiresAt()));
+        return tokenHash.equals(saved.getTokenHash());
+    }
+
+    /**
+     * 회전: 현재 해시가 oldHash 일 때만 newHash 로 교체. 교체되지 않았으면 false
+     */
+    public boolean rotate(String email, String oldHash, String newHash, LocalDateTime expiresAt) {
+        if (refreshTokenMapper.rotate(email, oldHash, newHash, expiresAt) == 0) {
+            currentTokens.invalidate(email);
+            return false;
+        }
+        cache(email, newHash, expiresAt);
+        return true;
+    }
+
+    /**
+     * 로그아웃/탈퇴: 해당 토큰 삭제. 삭제된 행 수 반환
+     */
+    public int delete(String email, String tokenHash) {
+        int deleted = refreshTokenMapper.deleteByEmailAndHash(email, tokenHash);
+        currentTokens.invalidate(email);
+        return deleted;
+    }
+
+    private void cache(String email, String tokenHash, LocalDateTime expiresAt) {
+        currentTokens.put(email, new RefreshToken(email, tokenHash, expiresAt, null), toEpochMillis(expiresAt));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
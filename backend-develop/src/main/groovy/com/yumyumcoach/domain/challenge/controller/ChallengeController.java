@@ -7,6 +7,7 @@ import com.yumyumcoach.domain.challenge.dto.JoinChallengeResponse;
 import com.yumyumcoach.domain.challenge.dto.LeaveChallengeResponse;
 import com.yumyumcoach.domain.challenge.service.ChallengeService;
 import com.yumyumcoach.global.common.CurrentUser;
+import com.yumyumcoach.global.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,7 @@ public class ChallengeController {
      * 예) GET /api/challenges?month=2025-12
      */
     @GetMapping
+    @ConditionalGet(keys = {"challenges", "challenges:{viewer}"}, perViewer = true)
     public ChallengeListResponse getChallenges(@RequestParam("month") String month) {
         String email = CurrentUser.email();
         return challengeService.getChallenges(month, email);
@@ -37,6 +39,7 @@ public class ChallengeController {
      * 예) GET /api/challenges/{challengeId}
      */
     @GetMapping("/{challengeId}")
+    @ConditionalGet(keys = {"challenges", "challenges:{viewer}"}, perViewer = true)
     public ChallengeResponse getChallengeDetail(@PathVariable("challengeId") Long challengeId) {
         String email = CurrentUser.email();
         return challengeService.getChallengeDetail(challengeId, email);
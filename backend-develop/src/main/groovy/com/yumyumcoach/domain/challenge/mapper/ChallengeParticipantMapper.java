@@ -96,22 +96,25 @@ public interface ChallengeParticipantMapper {
      */
     int countByChallengeId(@Param("challengeId") Long challengeId);
 
+    /**
+     * 기간(startDate ~ endDate, 양 끝 포함) 내 조건을 만족한 날 수 (daily_user_totals 기준)
+     */
     int countDietSuccessDays(
             @Param("email") String email,
-            @Param("startAt") LocalDateTime startAt,
-            @Param("endAt") LocalDateTime endAt
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 
     int countExerciseSuccessDays(
             @Param("email") String email,
-            @Param("startAt") LocalDateTime startAt,
-            @Param("endAt") LocalDateTime endAt
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 
     int countProteinSuccessDays(
             @Param("email") String email,
-            @Param("startAt") LocalDateTime startAt,
-            @Param("endAt") LocalDateTime endAt,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
             @Param("dailyTarget") double dailyTarget
     );
 
@@ -120,4 +123,14 @@ public interface ChallengeParticipantMapper {
             @Param("targetDate") LocalDate targetDate,
             @Param("goalTypes") List<String> goalTypes
     );
+
+    /**
+     * 기간(fromDate ~ toDate)과 하루라도 겹치는 참여 중 챌린지 id (일괄 등록 후 재평가용)
+     */
+    List<Long> findRunningJoinedChallengeIdsByGoalTypesBetween(
+            @Param("email") String email,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("goalTypes") List<String> goalTypes
+    );
 }
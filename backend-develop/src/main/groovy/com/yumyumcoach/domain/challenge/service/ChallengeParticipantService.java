@@ -8,12 +8,16 @@ import com.yumyumcoach.domain.challenge.mapper.ChallengeParticipantMapper;
 import com.yumyumcoach.domain.challenge.mapper.ChallengeRuleMapper;
 import com.yumyumcoach.domain.challenge.model.GoalType;
 import com.yumyumcoach.domain.title.mapper.AccountTitleMapper;
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
+import com.yumyumcoach.global.web.ResourceChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -38,6 +42,7 @@ public class ChallengeParticipantService {
     private final ChallengeParticipantMapper challengeParticipantMapper;
     private final ChallengeRuleMapper challengeRuleMapper;
     private final AccountTitleMapper accountTitleMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 챌린지에 참여 중인 한 명의 사용자의 진행률을 재평가한다.
@@ -69,19 +74,19 @@ public class ChallengeParticipantService {
             throw new BusinessException(ErrorCode.INVALID_REQUEST, "goalType이 올바르지 않습니다.");
         }
 
-        // 기간: start_date 00:00:00 ~ (end_date + 1일) 00:00:00
-        LocalDateTime startAt = challenge.getStartDate().atStartOfDay();
-        LocalDateTime endAt = challenge.getEndDate().plusDays(1).atStartOfDay();
+        // 기간: start_date ~ end_date (일 단위 롤업 기준)
+        LocalDate startDate = challenge.getStartDate();
+        LocalDate endDate = challenge.getEndDate();
 
         int successDays = switch (goalType) {
-            case DIET_DAY_COUNT -> challengeParticipantMapper.countDietSuccessDays(email, startAt, endAt);
-            case EXERCISE_DAY_COUNT -> challengeParticipantMapper.countExerciseSuccessDays(email, startAt, endAt);
+            case DIET_DAY_COUNT -> challengeParticipantMapper.countDietSuccessDays(email, startDate, endDate);
+            case EXERCISE_DAY_COUNT -> challengeParticipantMapper.countExerciseSuccessDays(email, startDate, endDate);
             case PROTEIN_PER_DAY -> {
                 Double dailyTarget = participant.getDailyTargetValue();
                 if (dailyTarget == null || dailyTarget <= 0) {
                     throw new BusinessException(ErrorCode.CHALLENGE_RULE_INVALID);
                 }
-                yield challengeParticipantMapper.countProteinSuccessDays(email, startAt, endAt, dailyTarget);
+                yield challengeParticipantMapper.countProteinSuccessDays(email, startDate, endDate, dailyTarget);
             }
 
             // 추후 확장 예정...
@@ -101,6 +106,7 @@ public class ChallengeParticipantService {
         // 3) progress 업데이트
         participant.updateProgress(successDays, progress, now);
         challengeParticipantMapper.updateProgress(challengeId, email, successDays, progress, now);
+        eventPublisher.publishEvent(ResourceChangedEvent.of("challenges:" + email));
 
         // 4) 완료 처리 + 보상 지급
         boolean alreadyCompleted = "completed".equalsIgnoreCase(participant.getStatus());
@@ -120,6 +126,7 @@ public class ChallengeParticipantService {
 
             // 타이틀 지급 (중복은 UNIQUE + INSERT IGNORE로 방지)
             accountTitleMapper.insertIgnore(email, rule.getRewardTitleId(), now, challengeId);
+            eventPublisher.publishEvent(new UserChangedEvent(email));
         }
     }
 }
@@ -38,6 +38,25 @@ public class ChallengeProgressTriggerService {
         }
     }
 
+    /**
+     * 식단 일괄 등록 후 1회 호출
+     * - 등록된 기간(fromDate ~ toDate)과 겹치는 식단 일수/단백질 챌린지를 챌린지당 한 번씩만 재평가
+     */
+    @Transactional
+    public void onDietsImported(String email, LocalDate fromDate, LocalDate toDate) {
+        List<String> goalTypes = List.of(
+                GoalType.DIET_DAY_COUNT.getCode(),
+                GoalType.PROTEIN_PER_DAY.getCode()
+        );
+
+        List<Long> challengeIds = challengeParticipantMapper
+                .findRunningJoinedChallengeIdsByGoalTypesBetween(email, fromDate, toDate, goalTypes);
+
+        for (Long challengeId : challengeIds) {
+            challengeParticipantService.evaluateProgress(challengeId, email);
+        }
+    }
+
     /**
      * 운동 기록 변경 시 호출
      * - 운동 일수 챌린지에 영향을 줌
@@ -13,7 +13,9 @@ import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.global.common.CdnUrlResolver;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
+import com.yumyumcoach.global.web.ResourceChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +44,7 @@ public class ChallengeService {
     private final ChallengeRuleMapper challengeRuleMapper;
     private final CdnUrlResolver cdnUrlResolver;
     private final ProfileMapper profileMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 몸무게 기본값
     private static final double DEFAULT_WEIGHT_KG = 60.0;
@@ -145,6 +148,7 @@ public class ChallengeService {
                 dailyTargetValue
         );
         challengeParticipantMapper.insert(participant);
+        eventPublisher.publishEvent(ResourceChangedEvent.of("challenges"));
 
         return JoinChallengeResponse.builder()
                 .challengeId(challenge.getId())
@@ -191,6 +195,7 @@ public class ChallengeService {
             existing.leave(leftAt);
             challengeParticipantMapper.updateStatus(challengeId, email, "left", leftAt);
         }
+        eventPublisher.publishEvent(ResourceChangedEvent.of("challenges"));
 
         return LeaveChallengeResponse.builder()
                 .challengeId(challengeId)
@@ -6,6 +6,7 @@ import com.yumyumcoach.domain.community.dto.PostRequest;
 import com.yumyumcoach.domain.community.dto.PostResponse;
 import com.yumyumcoach.domain.community.service.PostService;
 import com.yumyumcoach.global.common.CurrentUser;
+import com.yumyumcoach.global.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,6 +24,7 @@ public class PostController {
 
     // 전체 게시글 목록 조회
     @GetMapping
+    @ConditionalGet(keys = "posts", perViewer = true)
     public GetPostsResponse getPosts(GetPostsRequest request) {
         String email = CurrentUser.email();
         return postService.getPosts(request, email);
@@ -30,6 +32,7 @@ public class PostController {
 
     // 게시글 상세 조회
     @GetMapping("/{postId}")
+    @ConditionalGet(keys = {"post:{postId}", "posts:all"}, perViewer = true)
     public PostResponse getPost(@PathVariable("postId") Long postId) {
         String email = CurrentUser.email();
         return postService.getPost(postId, email);
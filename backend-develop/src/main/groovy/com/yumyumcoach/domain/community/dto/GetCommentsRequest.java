@@ -0,0 +1,38 @@
+package com.yumyumcoach.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 게시글의 댓글 목록 조회 요청 DTO.
+ * - GET /api/posts/{postId}/comments
+ * - 첫 페이지는 cursor 없이 요청, 이후에는 이전 응답의 nextCursorCreatedAt / nextCursorId 를 그대로 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetCommentsRequest {
+
+    /**
+     * 마지막으로 받은 댓글의 작성 시각
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorCreatedAt;
+
+    /**
+     * 마지막으로 받은 댓글 ID
+     */
+    private Long cursorId;
+
+    /**
+     * 페이지 사이즈 (기본값 20, 최대 50)
+     */
+    @Builder.Default
+    private int size = 20;
+}
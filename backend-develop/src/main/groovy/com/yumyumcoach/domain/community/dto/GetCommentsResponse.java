@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 특정 게시글의 댓글 목록 조회 응답 DTO.
  * - GET /api/posts/{postId}/comments
+ * - (created_at, id) 커서 기반 페이지 단위 응답
  */
 @Getter
 @Builder
@@ -23,12 +25,27 @@ public class GetCommentsResponse {
     private Long postId;
 
     /**
-     * 해당 게시글에 달린 전체 댓글 개수
+     * 해당 게시글에 달린 전체 댓글 개수 (posts.comment_count)
      */
     private long totalCount;
 
     /**
-     * 댓글 목록
+     * 현재 페이지 댓글 목록 (작성 시각 오름차순)
      */
     private List<CommentResponse> comments;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 요청 시 cursorCreatedAt 으로 넘길 값 (마지막 페이지면 null)
+     */
+    private LocalDateTime nextCursorCreatedAt;
+
+    /**
+     * 다음 페이지 요청 시 cursorId 로 넘길 값 (마지막 페이지면 null)
+     */
+    private Long nextCursorId;
 }
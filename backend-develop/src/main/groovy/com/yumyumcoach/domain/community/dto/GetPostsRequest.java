@@ -34,9 +34,9 @@ public class GetPostsRequest {
     private String keyword;
 
     /**
-     * [TODO] 정렬 기준
-     * - 예: "LATEST", "POPULAR"
-     * - 현재는 사용하지 않음
+     * 정렬 기준
+     * - "POPULAR": 최근 게시글 대상 시간 감쇠 인기순 (PostRankingService)
+     * - 그 외(null, "LATEST"): 최신순
      */
     private String sort;
 }
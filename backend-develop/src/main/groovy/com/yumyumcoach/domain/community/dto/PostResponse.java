@@ -14,7 +14,7 @@ import java.util.List;
  * - 댓글 목록은 별도 API (/api/posts/{postId}/comments) 로 제공
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
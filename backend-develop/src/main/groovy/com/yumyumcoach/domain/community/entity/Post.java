@@ -18,6 +18,7 @@ public class Post {
 //    private String category;
     private LocalDateTime createdAt;
     private int likes;
+    private int commentCount;
     private Long authorId;
     private String authorEmail;
     private String authorUsername;
@@ -0,0 +1,23 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기순 랭킹 계산용 게시글 반응 집계 row.
+ * - 좋아요 수, 댓글 수, 작성 시각만 가볍게 조회
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEngagement {
+    private Long postId;
+    private int likes;
+    private long commentCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.yumyumcoach.domain.community.event;
+
+import com.yumyumcoach.domain.community.service.PostDetailCache;
+import com.yumyumcoach.global.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 변경 커밋 이후 상세 캐시 제거 + 조건부 GET 버전 갱신.
+ * - "posts": 목록, "post:{id}": 상세, "posts:all": 전체 상세 (작성자 정보 일괄 변경 등)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCacheEventListener {
+
+    private final PostDetailCache postDetailCache;
+    private final ResourceVersions resourceVersions;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.postId() == null) {
+            postDetailCache.evictAll();
+            resourceVersions.touch(List.of("posts", "posts:all"));
+            return;
+        }
+        postDetailCache.evict(event.postId());
+        resourceVersions.touch(List.of("posts", "post:" + event.postId()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.yumyumcoach.domain.community.event;
+
+/**
+ * 게시글 상세(작성자/이미지/좋아요 수/댓글 수)가 바뀌었음을 알리는 이벤트.
+ * - postId 가 null 이면 전체 게시글 대상 (예: 회원 탈퇴로 작성자 정보 일괄 치환)
+ */
+public record PostChangedEvent(Long postId) {
+
+    public static PostChangedEvent allPosts() {
+        return new PostChangedEvent(null);
+    }
+}
@@ -4,6 +4,7 @@ import com.yumyumcoach.domain.community.entity.PostComment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -11,6 +12,15 @@ public interface PostCommentMapper {
 
     List<PostComment> findByPostId(@Param("postId") Long postId);
 
+    /**
+     * 특정 게시글의 댓글 페이지 조회 (created_at, id) 커서 기반
+     * - cursor 가 null 이면 첫 페이지
+     */
+    List<PostComment> findPageByPostId(@Param("postId") Long postId,
+                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                       @Param("cursorId") Long cursorId,
+                                       @Param("limit") int limit);
+
     long countByPostId(@Param("postId") Long postId);
 
     PostComment findById(@Param("commentId") Long commentId);
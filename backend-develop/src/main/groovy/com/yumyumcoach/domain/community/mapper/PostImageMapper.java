@@ -12,5 +12,22 @@ public interface PostImageMapper {
 
     void insert(PostImage postImage);
 
+    /**
+     * 이미지 여러 장 multi-row INSERT
+     */
+    void insertAll(@Param("images") List<PostImage> images);
+
+    /**
+     * order_index 기준으로 image_url 일괄 변경 (CASE 한 번)
+     */
+    void updateImageUrls(@Param("postId") Long postId,
+                         @Param("images") List<PostImage> images);
+
+    /**
+     * 지정한 이미지 id 들 삭제
+     */
+    void deleteByIds(@Param("postId") Long postId,
+                     @Param("imageIds") List<Long> imageIds);
+
     void deleteByPostId(@Param("postId") Long postId);
 }
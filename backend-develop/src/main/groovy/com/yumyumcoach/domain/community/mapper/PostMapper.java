@@ -1,9 +1,11 @@
 package com.yumyumcoach.domain.community.mapper;
 
 import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostEngagement;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -17,6 +19,16 @@ public interface PostMapper {
 
     long countPosts(@Param("keyword") String keyword);
 
+    /**
+     * id 목록으로 게시글 조회 (정렬 순서는 호출 측에서 맞춤)
+     */
+    List<Post> findByIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 인기순 랭킹 계산용: 특정 시각 이후 작성된 게시글의 좋아요/댓글 수 집계
+     */
+    List<PostEngagement> findEngagementsSince(@Param("since") LocalDateTime since);
+
     void insert(Post post);
 
     void update(Post post);
@@ -27,6 +39,16 @@ public interface PostMapper {
 
     void decreaseLikes(@Param("postId") Long postId);
 
+    /**
+     * 게시글 댓글 수(posts.comment_count) 조회
+     * - 게시글이 없으면 null
+     */
+    Integer findCommentCount(@Param("postId") Long postId);
+
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    void decreaseCommentCount(@Param("postId") Long postId);
+
     /**
      * 회원 탈퇴 시, 게시글 작성자 이메일을 시스템 탈퇴 계정으로 치환
      */
@@ -3,15 +3,18 @@ package com.yumyumcoach.domain.community.service;
 
 import com.yumyumcoach.domain.community.dto.CommentRequest;
 import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
 import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
 import com.yumyumcoach.domain.community.entity.Post;
 import com.yumyumcoach.domain.community.entity.PostComment;
+import com.yumyumcoach.domain.community.event.PostChangedEvent;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
 import com.yumyumcoach.global.common.CdnUrlResolver;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,37 +23,48 @@ import java.util.List;
 
 /**
  * Community 댓글 관련 서비스.
- * - 댓글 목록 조회
+ * - 댓글 목록 조회 (커서 기반 페이징)
  * - 댓글 작성/수정/삭제
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+
     private final PostMapper postMapper;
     private final PostCommentMapper postCommentMapper;
     private final CdnUrlResolver cdnUrlResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 게시글의 댓글 목록 조회
      * - GET /api/posts/{postId}/comments
+     * - (created_at, id) 커서 기반으로 한 페이지씩 조회
      */
-    public GetCommentsResponse getComments(Long postId) {
-        // 1) 게시글 존재 여부 확인
-        Post post = postMapper.findById(postId);
-        if (post == null) {
+    public GetCommentsResponse getComments(Long postId, GetCommentsRequest request) {
+        // 1) 게시글 존재 여부 확인 + 전체 댓글 수 (posts.comment_count)
+        Integer totalCount = postMapper.findCommentCount(postId);
+        if (totalCount == null) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND, "댓글을 조회할 게시글을 찾을 수 없습니다.");
         }
 
-        // 2) 댓글 목록 조회
-        List<PostComment> comments = postCommentMapper.findByPostId(postId);
+        // 2) 댓글 페이지 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_COMMENT_PAGE_SIZE);
+        List<PostComment> comments = postCommentMapper.findPageByPostId(
+                postId, request.getCursorCreatedAt(), request.getCursorId(), size + 1);
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+        PostComment last = hasNext ? comments.get(comments.size() - 1) : null;
 
         // 3) CommentResponse 리스트로 매핑
         List<CommentResponse> commentResponses = comments.stream()
                 .map(comment -> CommentResponse.builder()
                         .commentId(comment.getId())
                         .postId(comment.getPostId())
-                        // User 도메인 연동 전 : 일단 author 관련은 null로 세팅
                         .authorId(comment.getAuthorId())
                         .authorUsername(comment.getAuthorUsername())
                         .authorProfileImageUrl(
@@ -64,8 +78,11 @@ public class CommentService {
 
         return GetCommentsResponse.builder()
                 .postId(postId)
-                .totalCount(commentResponses.size())
+                .totalCount(totalCount)
                 .comments(commentResponses)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(last == null ? null : last.getCreatedAt())
+                .nextCursorId(last == null ? null : last.getId())
                 .build();
     }
 
@@ -92,6 +109,8 @@ public class CommentService {
 
         // 3) DB 저장 (id 자동 증가)
         postCommentMapper.insert(comment); // useGeneratedKeys=true 로 인해 comment.id 세팅됨
+        postMapper.increaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         PostComment saved = postCommentMapper.findByIdAndPostId(comment.getId(), postId);
 
@@ -167,5 +186,7 @@ public class CommentService {
 
         // 3) 해당 댓글 1개만 삭제
         postCommentMapper.delete(commentId);
+        postMapper.decreaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 }
@@ -0,0 +1,35 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import com.yumyumcoach.global.cache.LocalCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회 캐시.
+ * - 조회자와 무관한 부분(게시글, 작성자 카드, 이미지, 좋아요/댓글 수)만 캐시하고 isLikedByMe 는 항상 false 로 저장
+ * - 게시글/좋아요/댓글 변경은 PostChangedEvent 로 커밋 직후 무효화
+ * - 작성자 닉네임/프로필 이미지 변경은 UserService 가 PostChangedEvent.allPosts() 로 전체 무효화
+ */
+@Component
+public class PostDetailCache {
+
+    private static final int MAX_SIZE = 2_000;
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final LocalCache<Long, PostResponse> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,90 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.PostEngagement;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.global.web.ResourceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게시글 인기순(POPULAR) 랭킹 서비스.
+ * - 최근 게시글만 대상으로 시간 감쇠 점수를 주기적으로 계산해 메모리에 순위 목록을 유지
+ * - 점수 = (좋아요 + 댓글 * COMMENT_WEIGHT) / (경과 시간 + 2)^GRAVITY
+ * - 조회 시에는 미리 계산된 순위 목록에서 페이지 크기만큼 id 를 잘라서 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    public static final String SORT_POPULAR = "POPULAR";
+
+    private static final Duration RANKING_WINDOW = Duration.ofDays(7);
+    private static final int MAX_RANKED_POSTS = 1000;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double GRAVITY = 1.5;
+
+    private final PostMapper postMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스냅샷 교체 방식: 조회 스레드는 항상 완성된 목록만 본다
+    private volatile List<Long> rankedPostIds = Collections.emptyList();
+
+    public static boolean isPopular(String sort) {
+        return SORT_POPULAR.equalsIgnoreCase(sort);
+    }
+
+    /**
+     * 인기순 페이지에 해당하는 게시글 id 목록 (순위 순서 유지)
+     */
+    public List<Long> getRankedPostIds(int offset, int size) {
+        List<Long> snapshot = rankedPostIds;
+        if (offset < 0 || size <= 0 || offset >= snapshot.size()) {
+            return Collections.emptyList();
+        }
+        return snapshot.subList(offset, Math.min(offset + size, snapshot.size()));
+    }
+
+    /**
+     * 인기순 랭킹에 포함된 게시글 수
+     */
+    public long getRankedCount() {
+        return rankedPostIds.size();
+    }
+
+    /**
+     * 랭킹 갱신 (기동 직후 1회 + 이후 1분 간격)
+     * - 집계 대상은 RANKING_WINDOW 이내 게시글로 한정되어 갱신 비용이 전체 게시글 수와 무관
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 60_000)
+    public void refreshRanking() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostEngagement> engagements = postMapper.findEngagementsSince(now.minus(RANKING_WINDOW));
+
+        List<Long> refreshed = engagements.stream()
+                .sorted(Comparator.comparingDouble((PostEngagement e) -> score(e, now)).reversed()
+                        .thenComparing(PostEngagement::getPostId, Comparator.reverseOrder()))
+                .limit(MAX_RANKED_POSTS)
+                .map(PostEngagement::getPostId)
+                .toList();
+
+        // 순위가 실제로 바뀐 경우에만 목록 ETag 갱신
+        if (!refreshed.equals(rankedPostIds)) {
+            rankedPostIds = refreshed;
+            eventPublisher.publishEvent(ResourceChangedEvent.of("posts"));
+        }
+    }
+
+    private static double score(PostEngagement engagement, LocalDateTime now) {
+        double ageHours = Math.max(0, Duration.between(engagement.getCreatedAt(), now).toMinutes() / 60.0);
+        double points = engagement.getLikes() + engagement.getCommentCount() * COMMENT_WEIGHT;
+        return points / Math.pow(ageHours + 2, GRAVITY);
+    }
+}
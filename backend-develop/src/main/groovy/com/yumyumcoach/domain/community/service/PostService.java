@@ -7,6 +7,7 @@ import com.yumyumcoach.domain.community.dto.PostResponse;
 import com.yumyumcoach.domain.community.entity.Post;
 import com.yumyumcoach.domain.community.entity.PostImage;
 import com.yumyumcoach.domain.community.entity.PostLike;
+import com.yumyumcoach.domain.community.event.PostChangedEvent;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostImageMapper;
 import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
@@ -15,12 +16,19 @@ import com.yumyumcoach.global.common.CdnUrlResolver;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Community 게시글 관련 서비스.
@@ -38,6 +46,9 @@ public class PostService {
     private final PostLikeMapper postLikeMapper;
     private final PostCommentMapper postCommentMapper;
     private final CdnUrlResolver cdnUrlResolver;
+    private final PostRankingService postRankingService;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 게시글 목록(피드) 조회
@@ -52,6 +63,12 @@ public class PostService {
         String keyword = request.getKeyword();
         String sort = request.getSort();
 
+        // 인기순: 미리 계산된 랭킹에서 현재 페이지 id만 잘라서 조회
+        // (랭킹에는 키워드 조건이 없으므로 키워드 검색은 아래 SQL 경로에서 인기순으로 정렬)
+        if (PostRankingService.isPopular(sort) && (keyword == null || keyword.isBlank())) {
+            return getPopularPosts(page, size, offset, loginUserEmail);
+        }
+
         // 2) 게시글 목록 조회
         List<Post> posts = postMapper.findPosts(offset, size, keyword, sort);
         if (posts.isEmpty()) {
@@ -65,41 +82,8 @@ public class PostService {
 
         // 3) Post -> PostResponse 매핑
         List<PostResponse> postResponses = posts.stream()
-                .map(post -> {
-                    Long postId = post.getId();
-                    // 이미지 목록
-                    List<PostImage> postImages = postImageMapper.findByPostId(postId);
-                    List<String> imageUrls = postImages.stream()
-                            .map(PostImage::getImageUrl)
-                            .map(cdnUrlResolver::resolve)
-                            .toList();
-                    // 댓글 개수
-                    long commentCount = postCommentMapper.countByPostId(postId);
-                    // 좋아요 개수 (posts.likes)
-                    int likeCount = post.getLikes();
-                    // 내가 좋아요 눌렀는지 여부
-                    boolean isLikedByMe = false;
-                    if (loginUserEmail != null) {
-                        isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-                    }
-
-                    return PostResponse.builder()
-                            .postId(postId)
-                            .authorId(post.getAuthorId())
-                            .authorUsername(post.getAuthorUsername())
-                            .authorProfileImageUrl(
-                                    post.getAuthorProfileImageUrl() == null ? null : cdnUrlResolver.resolve(post.getAuthorProfileImageUrl())
-                            )
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .images(imageUrls)
-                            .likeCount(likeCount)
-                            .commentCount((int) commentCount)
-                            .isLikedByMe(isLikedByMe)
-                            .createdAt(post.getCreatedAt())
-                            .updatedAt(null)
-                            .build();
-                }).toList();
+                .map(post -> toPostResponse(post, loginUserEmail))
+                .toList();
 
         // 4) 전체 개수 조회
         long totalCount = postMapper.countPosts(keyword);
@@ -114,47 +98,11 @@ public class PostService {
     /**
      * 게시글 상세 조회
      * - GET /api/posts/{postId}
+     * - 조회자와 무관한 부분은 PostDetailCache 에서 읽고, isLikedByMe 만 매번 확인
      */
     public PostResponse getPost(Long postId, String loginUserEmail) {
-        // 1) 게시글 조회
-        Post post = postMapper.findById(postId);
-        if (post == null) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-        }
-
-        // 2) 이미지 목록 조회
-        List<PostImage> postImages = postImageMapper.findByPostId(postId);
-        List<String> imageUrls = postImages.stream()
-                .map(PostImage::getImageUrl)
-                .map(cdnUrlResolver::resolve)
-                .toList();
-
-        // 3) 댓글 개수 조회
-        long commentCount = postCommentMapper.countByPostId(postId);
-
-        // 4) 좋아요 개수 (posts.likes)
-        int likeCount = post.getLikes();
-
-        // 5) 현재 유저가 좋아요 눌렀는지 여부
-        boolean isLikedByMe = loginUserEmail != null
-                && postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-
-        return PostResponse.builder()
-                .postId(post.getId())
-                .authorId(post.getAuthorId())
-                .authorUsername(post.getAuthorUsername())
-                .authorProfileImageUrl(
-                        post.getAuthorProfileImageUrl() == null ? null : cdnUrlResolver.resolve(post.getAuthorProfileImageUrl())
-                )
-                .title(post.getTitle())
-                .content(post.getContent())
-                .images(imageUrls)
-                .likeCount(likeCount)
-                .commentCount((int) commentCount)
-                .isLikedByMe(isLikedByMe)
-                .createdAt(post.getCreatedAt())
-                .updatedAt(null)
-                .build();
+        PostResponse cached = postDetailCache.get(postId, this::loadPostDetail);
+        return withLikedByMe(cached, loginUserEmail);
     }
 
     /**
@@ -176,19 +124,16 @@ public class PostService {
         postMapper.insert(post); // useGeneratedKeys="true" 로 인해 post.id 세팅됨
         Long postId = post.getId();
 
-        // 3) 이미지가 있다면 post_images에 INSERT
+        // 3) 이미지가 있다면 post_images에 한 번에 INSERT
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
-        }
+        syncImages(postId, Collections.emptyList(), images);
+
+        // 목록 버전(posts)을 올려야 조건부 GET 목록이 304 로 새 글을 숨기지 않음
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
-        return getPost(postId, loginUserEmail);
+        // 4) 작성자 정보만 조회해서 응답 구성 (새 글이므로 좋아요/댓글 0, isLikedByMe = false)
+        Post saved = postMapper.findById(postId);
+        return buildPostDetail(saved, images);
     }
 
     /**
@@ -217,20 +162,15 @@ public class PostService {
                 .build();
         postMapper.update(post);
 
-        // 3) 이미지 -> 기존 이미지 삭제 후 새로 저장
-        postImageMapper.deleteByPostId(postId);
+        // 3) 이미지 -> 기존 이미지와 비교해서 바뀐 위치만 반영
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
-        }
+        syncImages(postId, postImageMapper.findByPostId(postId), images);
 
-        return getPost(postId, loginUserEmail);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
+        // 4) 다시 읽지 않고 메모리 상태로 응답 구성
+        existing.update(request.getTitle(), request.getContent());
+        return withLikedByMe(buildPostDetail(existing, images), loginUserEmail);
     }
 
     /**
@@ -257,6 +197,7 @@ public class PostService {
 
         // 2) 게시글 삭제
         postMapper.delete(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
@@ -286,6 +227,7 @@ public class PostService {
 
         // 3) posts.likes +1
         postMapper.increaseLikes(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
@@ -311,5 +253,176 @@ public class PostService {
 
         // 4) posts.likes -1
         postMapper.decreaseLikes(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+    /**
+     * 인기순 목록 조회
+     * - 랭킹 순서를 유지하기 위해 id 순서대로 다시 정렬
+     * - 랭킹 갱신 사이에 삭제된 게시글은 건너뜀
+     */
+    private GetPostsResponse getPopularPosts(int page, int size, int offset, String loginUserEmail) {
+        List<Long> rankedIds = postRankingService.getRankedPostIds(offset, size);
+        long totalCount = postRankingService.getRankedCount();
+        if (rankedIds.isEmpty()) {
+            return GetPostsResponse.builder()
+                    .page(page)
+                    .size(size)
+                    .totalCount(totalCount)
+                    .posts(Collections.emptyList())
+                    .build();
+        }
+
+        Map<Long, Post> postsById = postMapper.findByIds(rankedIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<PostResponse> postResponses = rankedIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(post -> toPostResponse(post, loginUserEmail))
+                .toList();
+
+        return GetPostsResponse.builder()
+                .page(page)
+                .size(size)
+                .totalCount(totalCount)
+                .posts(postResponses)
+                .build();
+    }
+
+    private PostResponse toPostResponse(Post post, String loginUserEmail) {
+        Long postId = post.getId();
+        // 이미지 목록
+        List<PostImage> postImages = postImageMapper.findByPostId(postId);
+        List<String> imageUrls = postImages.stream()
+                .map(PostImage::getImageUrl)
+                .map(cdnUrlResolver::resolve)
+                .toList();
+        // 좋아요 개수 (posts.likes)
+        int likeCount = post.getLikes();
+        // 내가 좋아요 눌렀는지 여부
+        boolean isLikedByMe = false;
+        if (loginUserEmail != null) {
+            isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
+        }
+
+        return PostResponse.builder()
+                .postId(postId)
+                .authorId(post.getAuthorId())
+                .authorUsername(post.getAuthorUsername())
+                .authorProfileImageUrl(
+                        post.getAuthorProfileImageUrl() == null ? null : cdnUrlResolver.resolve(post.getAuthorProfileImageUrl())
+                )
+                .title(post.getTitle())
+                .content(post.getContent())
+                .images(imageUrls)
+                .likeCount(likeCount)
+                .commentCount(post.getCommentCount())
+                .isLikedByMe(isLikedByMe)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(null)
+                .build();
+    }
+
+    /**
+     * 게시글 상세 중 조회자와 무관한 부분 로딩 (isLikedByMe = false)
+     */
+    private PostResponse loadPostDetail(Long postId) {
+        // 1) 게시글 조회
+        Post post = postMapper.findById(postId);
+        if (post == null) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        // 2) 이미지 목록 조회
+        List<String> imageKeys = postImageMapper.findByPostId(postId).stream()
+                .map(PostImage::getImageUrl)
+                .toList();
+
+        return buildPostDetail(post, imageKeys);
+    }
+
+    /**
+     * 게시글 + 이미지 objectKey 목록으로 상세 응답 구성 (isLikedByMe = false)
+     */
+    private PostResponse buildPostDetail(Post post, List<String> imageKeys) {
+        List<String> imageUrls = imageKeys.stream()
+                .map(cdnUrlResolver::resolve)
+                .toList();
+
+        // 댓글 개수 (posts.comment_count), 좋아요 개수 (posts.likes)
+        return PostResponse.builder()
+                .postId(post.getId())
+                .authorId(post.getAuthorId())
+                .authorUsername(post.getAuthorUsername())
+                .authorProfileImageUrl(
+                        post.getAuthorProfileImageUrl() == null ? null : cdnUrlResolver.resolve(post.getAuthorProfileImageUrl())
+                )
+                .title(post.getTitle())
+                .content(post.getContent())
+                .images(imageUrls)
+                .likeCount(post.getLikes())
+                .commentCount(post.getCommentCount())
+                .isLikedByMe(false)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(null)
+                .build();
+    }
+
+    /**
+     * 이미지 목록 반영
+     * - order_index(1부터) 위치별로 기존 이미지와 비교해서 바뀐 URL 만 UPDATE, 늘어난 위치는 INSERT, 줄어든 위치는 DELETE
+     * - 각 작업은 최대 1문장씩이라 이미지 개수와 무관하게 상수 번의 쿼리로 끝남
+     * - 유지되는 row 의 order_index 는 바뀌지 않으므로 (post_id, order_index) UNIQUE 충돌이 없음
+     */
+    private void syncImages(Long postId, List<PostImage> currentImages, List<String> imageKeys) {
+        Map<Integer, PostImage> currentByOrder = new HashMap<>();
+        for (PostImage image : currentImages) {
+            currentByOrder.put(image.getOrderIndex(), image);
+        }
+
+        List<PostImage> toInsert = new ArrayList<>();
+        List<PostImage> toUpdate = new ArrayList<>();
+        int orderIndex = 1;
+        for (String imageKey : imageKeys) {
+            PostImage desired = PostImage.builder()
+                    .postId(postId)
+                    .imageUrl(imageKey)
+                    .orderIndex(orderIndex)
+                    .build();
+
+            PostImage current = currentByOrder.remove(orderIndex);
+            if (current == null) {
+                toInsert.add(desired);
+            } else if (!Objects.equals(current.getImageUrl(), imageKey)) {
+                toUpdate.add(desired);
+            }
+            orderIndex++;
+        }
+
+        List<Long> toDelete = currentByOrder.values().stream()
+                .map(PostImage::getId)
+                .toList();
+
+        if (!toDelete.isEmpty()) {
+            postImageMapper.deleteByIds(postId, toDelete);
+        }
+        if (!toUpdate.isEmpty()) {
+            postImageMapper.updateImageUrls(postId, toUpdate);
+        }
+        if (!toInsert.isEmpty()) {
+            postImageMapper.insertAll(toInsert);
+        }
+    }
+
+    /**
+     * 현재 유저가 좋아요 눌렀는지 여부만 채워서 반환
+     */
+    private PostResponse withLikedByMe(PostResponse detail, String loginUserEmail) {
+        boolean isLikedByMe = loginUserEmail != null
+                && postLikeMapper.existsByPostIdAndAuthorEmail(detail.getPostId(), loginUserEmail);
+        return detail.toBuilder()
+                .isLikedByMe(isLikedByMe)
+                .build();
     }
 }
@@ -1,12 +1,18 @@
 package com.yumyumcoach.domain.diet.controller;
 
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietDayResponse;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
+import com.yumyumcoach.domain.diet.service.DietImportReader;
+import com.yumyumcoach.domain.diet.service.DietImportService;
 import com.yumyumcoach.domain.diet.service.DietRecordService;
+import java.io.IOException;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -27,9 +33,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class DietRecordController {
 
     private final DietRecordService dietRecordService;
+    private final DietImportService dietImportService;
 
-    public DietRecordController(DietRecordService dietRecordService) {
+    public DietRecordController(DietRecordService dietRecordService, DietImportService dietImportService) {
         this.dietRecordService = dietRecordService;
+        this.dietImportService = dietImportService;
     }
 
     @GetMapping
@@ -43,6 +51,18 @@ public class DietRecordController {
         return ResponseEntity.ok(dietRecordService.getMyDiets(email, date, page, size));
     }
 
+    /**
+     * 하루 화면: 그날 식단 전체 + 음식 + 영양 합계 (식단별 상세 재조회 불필요)
+     */
+    @GetMapping("/day")
+    public ResponseEntity<DietDayResponse> getMyDietDay(
+            Principal principal,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        String email = principal.getName();
+        return ResponseEntity.ok(dietRecordService.getMyDietDay(email, date));
+    }
+
     @GetMapping("/{dietId}")
     public ResponseEntity<DietRecordDto> getMyDietDetail(
             Principal principal,
@@ -66,6 +86,22 @@ public class DietRecordController {
         return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(dietId);
     }
 
+    /**
+     * 식단 일괄 등록 (본문을 스트리밍으로 읽음)
+     * - application/x-ndjson: 한 줄에 식단 1건
+     * - text/csv: 한 줄에 음식 1건 (recorded_at,meal_type,food_id,serve_count)
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<DietImportResponse> importMyDiets(
+            Principal principal,
+            HttpServletRequest httpRequest
+    ) throws IOException {
+        String email = principal.getName();
+        DietImportReader.Format format = DietImportReader.Format.fromContentType(httpRequest.getContentType());
+        DietImportResponse response = dietImportService.importMyDiets(email, format, httpRequest.getInputStream());
+        return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(response);
+    }
+
     @DeleteMapping("/{dietId}")
     public ResponseEntity<Void> deleteMyDiet(
             Principal principal,
@@ -4,6 +4,7 @@ import com.yumyumcoach.domain.diet.dto.CreateFoodRequest;
 import com.yumyumcoach.domain.diet.dto.FoodDto;
 import com.yumyumcoach.domain.diet.dto.UpdateFoodRequest;
 import com.yumyumcoach.domain.diet.service.FoodService;
+import com.yumyumcoach.global.web.ConditionalGet;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
@@ -52,11 +53,13 @@ public class FoodController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(keys = "foods")
     public ResponseEntity<FoodDto> getFoodDetail(@PathVariable("id") Long id) {
         return ResponseEntity.ok(foodService.getFoodDetail(id));
     }
 
     @GetMapping
+    @ConditionalGet(keys = "foods")
     public ResponseEntity<List<FoodDto>> getFoods(
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(value = "page", defaultValue = "0") int page,
@@ -1,5 +1,6 @@
 package com.yumyumcoach.domain.diet.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
@@ -10,6 +11,10 @@ import lombok.*;
 @Builder
 public class CreateFoodRequest {
 
+    // INSERT 후 생성된 id (useGeneratedKeys), 요청 본문으로는 받지 않음
+    @JsonIgnore
+    private Long id;
+
     @NotBlank
     private String name;
 
@@ -0,0 +1,29 @@
+package com.yumyumcoach.domain.diet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루 식단 화면 응답
+ * - diets: 그날 식단 전체 (recordedAt 순), 각 식단에 음식 리스트와 식단별 영양 합계(total*) 포함
+ * - total*: 하루 합계
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DietDayResponse {
+
+    private LocalDate date;
+    private List<DietRecordDto> diets;
+
+    private double totalCarbs;
+    private double totalProtein;
+    private double totalFat;
+    private double totalCalories;
+}
@@ -0,0 +1,25 @@
+package com.yumyumcoach.domain.diet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 식단 일괄 등록 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DietImportResponse {
+
+    private int importedDiets;
+    private int importedFoods;
+
+    // 등록된 식단의 날짜 범위 (양 끝 포함)
+    private LocalDate fromDate;
+    private LocalDate toDate;
+}
@@ -15,6 +15,13 @@ public class DietRecordDto {
     private LocalDateTime recordedAt;
     private String mealType;
     private String imageUrl;
+
+    // 기록 시점 영양 합계 스냅샷 (이후 foods 수정과 무관)
+    private Double totalCarbs;
+    private Double totalProtein;
+    private Double totalFat;
+    private Double totalCalories;
+
     private List<DietFoodDto> items;
 }
 
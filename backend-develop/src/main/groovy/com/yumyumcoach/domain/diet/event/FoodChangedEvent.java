@@ -0,0 +1,7 @@
+package com.yumyumcoach.domain.diet.event;
+
+/**
+ * 음식 등록/수정/삭제 이벤트 (커밋 이후 검색 색인 갱신용)
+ */
+public record FoodChangedEvent(Long foodId) {
+}
@@ -3,7 +3,6 @@ package com.yumyumcoach.domain.diet.mapper;
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
@@ -23,6 +22,12 @@ public interface DietRecordMapper {
             @Param("req") CreateDietRecordRequest req
     );
 
+    /**
+     * diet_foods x foods 합계를 diet_records 영양 스냅샷 컬럼에 기록 (문장 하나로 집계 + 갱신)
+     * - 식단 추가/수정/일괄 등록 시 음식 목록을 쓴 직후 호출
+     */
+    int updateNutritionTotals(@Param("ids") List<Long> ids);
+
     int deleteDietRecord(
             @Param("id") Long id,
             @Param("email") String email
@@ -39,13 +44,26 @@ public interface DietRecordMapper {
             @Param("limit") int limit
     );
 
+    /**
+     * 하루치 식단 목록: recorded_at 이 [startAt, endAt) 인 기록
+     */
     List<DietRecordDto> selectDietRecordsByUserAndDate(
             @Param("email") String email,
-            @Param("recordedAt") LocalDate recordedAt,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
 
+    /**
+     * 하루치 식단 전체 + 각 식단의 음식 리스트 (조인 1회)
+     */
+    List<DietRecordDto> selectDietDayWithItems(
+            @Param("email") String email,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt
+    );
+
     String selectOwnerEmail(@Param("id") Long id);
 
     LocalDateTime selectRecordedAtByIdAndEmail(
@@ -6,6 +6,7 @@ import com.yumyumcoach.domain.diet.dto.UpdateFoodRequest;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface FoodMapper {
@@ -23,5 +24,10 @@ public interface FoodMapper {
             @Param("offset") int offset,
             @Param("limit") int limit
     );
+
+    /**
+     * 전체 음식 스트리밍 조회 (검색 색인 적재용)
+     */
+    void streamFoods(ResultHandler<FoodDto> handler);
 }
 
@@ -0,0 +1,206 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 식단 일괄 등록 입력 파서.
+ * - 한 줄씩 읽어 식단 1건씩 돌려주므로 입력 크기와 무관하게 메모리 사용량이 일정
+ * - NDJSON: 한 줄 = 식단 1건 {"recordedAt", "mealType", "imageUrl", "items": [{"foodId", "serveCount"}, ...]}
+ * - CSV: 한 줄 = 음식 1건 (recorded_at,meal_type,food_id,serve_count), 연속한 줄의 recorded_at + meal_type 이 같으면 한 식단으로 묶음
+ *   (뒤에 붙은 컬럼은 무시 -> 내보내기 CSV 를 그대로 다시 가져올 수 있음)
+ * - orderIndex 는 입력 순서대로 1부터 다시 매김
+ * - 형식 오류는 줄 번호와 함께 DIET_IMPORT_INVALID
+ */
+public class DietImportReader implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CSV_HEADER_PREFIX = "recorded_at";
+    private static final int CSV_COLUMNS = 4;
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+            return NDJSON;
+        }
+    }
+
+    private final Format format;
+    private final BufferedReader reader;
+    private int lineNumber;
+    // 현재 식단의 첫 줄 번호 (검증 오류 위치 표시용)
+    private int recordLineNumber;
+
+    // CSV: 다음 식단의 첫 줄을 미리 읽어둔 것
+    private String[] pendingRow;
+    private int pendingLineNumber;
+
+    public DietImportReader(Format format, InputStream in) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 식단 1건, 더 없으면 null
+     */
+    public CreateDietRecordRequest next() {
+        return format == Format.CSV ? nextCsv() : nextNdjson();
+    }
+
+    public int recordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private CreateDietRecordRequest nextNdjson() {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(line);
+        } catch (IOException e) {
+            throw invalid(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+
+        List<CreateDietFoodRequest> items = new ArrayList<>();
+        for (JsonNode item : node.path("items")) {
+            items.add(food(
+                    item.path("foodId").isIntegralNumber() ? item.get("foodId").asLong() : null,
+                    item.path("serveCount").isNumber() ? item.get("serveCount").asDouble() : null,
+                    items.size() + 1));
+        }
+
+        return CreateDietRecordRequest.builder()
+                .recordedAt(parseDateTime(node.path("recordedAt").asText(null), lineNumber))
+                .mealType(node.path("mealType").asText(null))
+                .imageUrl(node.path("imageUrl").asText(null))
+                .items(items)
+                .build();
+    }
+
+    private CreateDietRecordRequest nextCsv() {
+        String[] first = pendingRow != null ? pendingRow : readCsvRow();
+        if (first == null) {
+            return null;
+        }
+        recordLineNumber = pendingRow != null ? pendingLineNumber : lineNumber;
+        pendingRow = null;
+
+        List<CreateDietFoodRequest> items = new ArrayList<>();
+        items.add(csvFood(first, 1, recordLineNumber));
+
+        String[] row;
+        while ((row = readCsvRow()) != null) {
+            if (!row[0].equals(first[0]) || !row[1].equals(first[1])) {
+                pendingRow = row;
+                pendingLineNumber = lineNumber;
+                break;
+            }
+            items.add(csvFood(row, items.size() + 1, lineNumber));
+        }
+
+        return CreateDietRecordRequest.builder()
+                .recordedAt(parseDateTime(first[0], recordLineNumber))
+                .mealType(first[1])
+                .items(items)
+                .build();
+    }
+
+    private String[] readCsvRow() {
+        String line;
+        while ((line = readNonBlankLine()) != null) {
+            if (lineNumber == 1 && line.strip().startsWith(CSV_HEADER_PREFIX)) {
+                continue;
+            }
+            String[] columns = line.split(",", -1);
+            if (columns.length < CSV_COLUMNS) {
+                throw invalid(lineNumber, "CSV 컬럼은 recorded_at,meal_type,food_id,serve_count 순서로 4개 이상이어야 합니다.");
+            }
+            for (int i = 0; i < CSV_COLUMNS; i++) {
+                columns[i] = columns[i].strip();
+            }
+            return columns;
+        }
+        return null;
+    }
+
+    private static CreateDietFoodRequest csvFood(String[] row, int orderIndex, int line) {
+        try {
+            return food(Long.parseLong(row[2]), Double.parseDouble(row[3]), orderIndex);
+        } catch (NumberFormatException e) {
+            throw invalid(line, "food_id / serve_count 는 숫자여야 합니다.");
+        }
+    }
+
+    private static CreateDietFoodRequest food(Long foodId, Double serveCount, int orderIndex) {
+        return CreateDietFoodRequest.builder()
+                .foodId(foodId)
+                .serveCount(serveCount)
+                .orderIndex(orderIndex)
+                .build();
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // 엑셀 등에서 저장한 UTF-8 BOM 제거
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ISO-8601 (2025-01-01T08:00:00) 외에 다른 앱 내보내기에서 흔한 공백 구분(2025-01-01 08:00:00)도 허용
+    private static LocalDateTime parseDateTime(String value, int line) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.strip().replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw invalid(line, "recordedAt 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    static BusinessException invalid(int line, String reason) {
+        return new BusinessException(ErrorCode.DIET_IMPORT_INVALID, line + "번째 줄: " + reason);
+    }
+}
@@ -0,0 +1,36 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.challenge.service.ChallengeProgressTriggerService;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 식단 일괄 등록 (NDJSON / CSV 스트리밍).
+ * - 음식 검증은 메모리 음식 목록(FoodSearchIndex)으로 처리해 건별 DB 조회 없음
+ * - 쓰기는 DietImportWriter 의 트랜잭션 하나에서 끝내고, 챌린지 재평가는 커밋 후 영향 기간 기준으로 챌린지당 1회
+ */
+@Service
+@RequiredArgsConstructor
+public class DietImportService {
+
+    private final DietImportWriter dietImportWriter;
+    private final FoodSearchIndex foodSearchIndex;
+    private final ChallengeProgressTriggerService challengeProgressTriggerService;
+
+    public DietImportResponse importMyDiets(String email, DietImportReader.Format format, InputStream body) throws IOException {
+        // 적재는 기본 Mapper 를 쓰므로 BATCH 트랜잭션이 열리기 전에 끝내둠
+        foodSearchIndex.ensureLoaded();
+
+        DietImportResponse response;
+        try (DietImportReader reader = new DietImportReader(format, body)) {
+            response = dietImportWriter.write(email, reader);
+        }
+
+        challengeProgressTriggerService.onDietsImported(email, response.getFromDate(), response.getToDate());
+        return response;
+    }
+}
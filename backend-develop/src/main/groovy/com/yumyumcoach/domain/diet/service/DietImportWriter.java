@@ -0,0 +1,160 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.ai.event.NutritionReviewRequestedEvent;
+import com.yumyumcoach.domain.diet.dto.CreateDietFoodRequest;
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietImportResponse;
+import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
+import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
+import com.yumyumcoach.domain.stats.mapper.DailyUserTotalsMapper;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 식단 일괄 등록의 DB 쓰기 부분 (트랜잭션 하나로 전부 반영 또는 전부 롤백).
+ * - ExecutorType.BATCH 세션으로 CHUNK_SIZE 건씩 JDBC batch 실행 -> 왕복 횟수가 건수가 아니라 청크 수에 비례
+ * - 같은 트랜잭션 안에서 SIMPLE 실행기를 쓰는 기본 Mapper 를 섞을 수 없으므로 롤업 갱신도 BATCH 세션의 Mapper 로 수행
+ *   (챌린지 재평가는 커밋 후 DietImportService 에서 별도 트랜잭션으로 실행)
+ * - 청크마다 처음 나온 날짜의 롤업 행을 식단 INSERT 보다 먼저 잠금 (DailyUserTotalsService 와 같은 잠금 순서)
+ * - AI 영양 리뷰 이벤트는 식단 건수가 아니라 영향받은 주(week) 수만큼만 발행 (기준일은 그 주의 마지막 가져온 날짜)
+ */
+@Component
+public class DietImportWriter {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_DIETS = 10_000;
+    private static final int MAX_ITEMS_PER_DIET = 50;
+
+    private final SqlSessionTemplate batchSession;
+    private final DietRecordMapper dietRecordMapper;
+    private final DietFoodMapper dietFoodMapper;
+    private final DailyUserTotalsMapper dailyUserTotalsMapper;
+    private final FoodSearchIndex foodSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DietImportWriter(SqlSessionFactory sqlSessionFactory,
+                            FoodSearchIndex foodSearchIndex,
+                            ApplicationEventPublisher eventPublisher) {
+        this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.dietRecordMapper = batchSession.getMapper(DietRecordMapper.class);
+        this.dietFoodMapper = batchSession.getMapper(DietFoodMapper.class);
+        this.dailyUserTotalsMapper = batchSession.getMapper(DailyUserTotalsMapper.class);
+        this.foodSearchIndex = foodSearchIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public DietImportResponse write(String email, DietImportReader reader) {
+        List<CreateDietRecordRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        TreeSet<LocalDate> newDates = new TreeSet<>();
+        int diets = 0;
+        int foods = 0;
+
+        CreateDietRecordRequest diet;
+        while ((diet = reader.next()) != null) {
+            validate(diet, reader.recordLineNumber());
+            if (++diets > MAX_DIETS) {
+                throw new BusinessException(ErrorCode.DIET_IMPORT_TOO_LARGE);
+            }
+            foods += diet.getItems().size();
+            LocalDate date = diet.getRecordedAt().toLocalDate();
+            if (dates.add(date)) {
+                newDates.add(date);
+            }
+
+            chunk.add(diet);
+            if (chunk.size() == CHUNK_SIZE) {
+                flushChunk(email, chunk, newDates);
+                chunk.clear();
+                newDates.clear();
+            }
+        }
+        flushChunk(email, chunk, newDates);
+
+        if (diets == 0) {
+            throw new BusinessException(ErrorCode.DIET_IMPORT_INVALID, "가져올 식단이 없습니다.");
+        }
+
+        for (LocalDate date : dates) {
+            dailyUserTotalsMapper.refreshDietTotals(email, date);
+        }
+        batchSession.flushStatements();
+
+        // 주마다 그 주에 가져온 가장 늦은 날짜를 기준일로 (월요일을 보내면 그 주 리뷰가 월요일까지만 평가됨)
+        Map<LocalDate, LocalDate> latestDateByWeek = new LinkedHashMap<>();
+        for (LocalDate date : dates) {
+            latestDateByWeek.put(date.with(DayOfWeek.MONDAY), date);
+        }
+        latestDateByWeek.values()
+                .forEach(anchor -> eventPublisher.publishEvent(new NutritionReviewRequestedEvent(email, anchor)));
+
+        return DietImportResponse.builder()
+                .importedDiets(diets)
+                .importedFoods(foods)
+                .fromDate(dates.first())
+                .toDate(dates.last())
+                .build();
+    }
+
+    private void flushChunk(String email, List<CreateDietRecordRequest> chunk, TreeSet<LocalDate> newDates) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // batch 안에서도 문장 순서는 유지되므로 롤업 행 잠금이 식단 INSERT 보다 먼저 실행됨
+        for (LocalDate date : newDates) {
+            dailyUserTotalsMapper.lockDay(email, date);
+        }
+        for (CreateDietRecordRequest diet : chunk) {
+            dietRecordMapper.insertDietRecord(email, diet);
+        }
+        // batch 실행 시점에 생성된 PK 가 각 요청의 id 에 채워짐
+        batchSession.flushStatements();
+
+        List<Long> dietIds = new ArrayList<>(chunk.size());
+        for (CreateDietRecordRequest diet : chunk) {
+            dietFoodMapper.insertDietFoods(diet.getId(), diet.getItems());
+            dietIds.add(diet.getId());
+        }
+        dietRecordMapper.updateNutritionTotals(dietIds);
+        batchSession.flushStatements();
+    }
+
+    private void validate(CreateDietRecordRequest diet, int line) {
+        if (diet.getRecordedAt() == null) {
+            throw DietImportReader.invalid(line, "recordedAt 이 없습니다.");
+        }
+        if (diet.getMealType() == null || diet.getMealType().isBlank()) {
+            throw DietImportReader.invalid(line, "mealType 이 없습니다.");
+        }
+        if (diet.getItems() == null || diet.getItems().isEmpty()) {
+            throw DietImportReader.invalid(line, "음식이 없습니다.");
+        }
+        if (diet.getItems().size() > MAX_ITEMS_PER_DIET) {
+            throw DietImportReader.invalid(line, "식단 하나의 음식은 " + MAX_ITEMS_PER_DIET + "개까지 가능합니다.");
+        }
+        for (CreateDietFoodRequest item : diet.getItems()) {
+            if (item.getFoodId() == null || !foodSearchIndex.containsFood(item.getFoodId())) {
+                throw DietImportReader.invalid(line, "존재하지 않는 음식입니다. (foodId=" + item.getFoodId() + ")");
+            }
+            if (item.getServeCount() == null || item.getServeCount() <= 0) {
+                throw DietImportReader.invalid(line, "serveCount 는 0보다 커야 합니다.");
+            }
+        }
+    }
+}
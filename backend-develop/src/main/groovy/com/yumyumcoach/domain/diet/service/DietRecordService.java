@@ -3,12 +3,16 @@ package com.yumyumcoach.domain.diet.service;
 import com.yumyumcoach.domain.ai.event.NutritionReviewRequestedEvent;
 import com.yumyumcoach.domain.challenge.service.ChallengeProgressTriggerService;
 import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest;
+import com.yumyumcoach.domain.diet.dto.DietDayResponse;
 import com.yumyumcoach.domain.diet.dto.DietRecordDto;
 import com.yumyumcoach.domain.diet.mapper.DietFoodMapper;
 import com.yumyumcoach.domain.diet.mapper.DietRecordMapper;
+import com.yumyumcoach.domain.stats.service.DailyUserTotalsService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
@@ -25,12 +29,32 @@ public class DietRecordService {
     private final DietFoodMapper dietFoodMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final ChallengeProgressTriggerService challengeProgressTriggerService;
+    private final DailyUserTotalsService dailyUserTotalsService;
 
     @Transactional(readOnly = true)
     public List<DietRecordDto> getMyDiets(String email, LocalDate date, int page, int size) {
         int limit = Math.max(size, 1);
         int offset = Math.max(page, 0) * limit;
-        return dietRecordMapper.selectDietRecordsByUserAndDate(email, date, offset, limit);
+        return dietRecordMapper.selectDietRecordsByUserAndDate(
+                email, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), offset, limit);
+    }
+
+    /**
+     * 하루 화면용: 그날 식단 전체 + 음식 + 식단별/하루 영양 합계를 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public DietDayResponse getMyDietDay(String email, LocalDate date) {
+        List<DietRecordDto> diets = dietRecordMapper.selectDietDayWithItems(
+                email, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        return DietDayResponse.builder()
+                .date(date)
+                .diets(diets)
+                .totalCarbs(sum(diets, DietRecordDto::getTotalCarbs))
+                .totalProtein(sum(diets, DietRecordDto::getTotalProtein))
+                .totalFat(sum(diets, DietRecordDto::getTotalFat))
+                .totalCalories(sum(diets, DietRecordDto::getTotalCalories))
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -44,6 +68,7 @@ public class DietRecordService {
 
     @Transactional
     public Long createMyDiet(String email, CreateDietRecordRequest request) {
+        dailyUserTotalsService.lockDays(email, request.getRecordedAt());
         dietRecordMapper.insertDietRecord(email, request);
         Long dietId = request.getId();
         if (dietId == null) {
@@ -53,7 +78,9 @@ public class DietRecordService {
         if (request.getItems() != null && !request.getItems().isEmpty()) {
             dietFoodMapper.insertDietFoods(dietId, request.getItems());
         }
+        dietRecordMapper.updateNutritionTotals(List.of(dietId));
 
+        dailyUserTotalsService.onDietChanged(email, request.getRecordedAt());
         challengeProgressTriggerService.onDietChanged(email, request.getRecordedAt());
 
         LocalDate anchor = request.getRecordedAt().toLocalDate();
@@ -75,12 +102,14 @@ public class DietRecordService {
         if (recordedAt == null) throw new BusinessException(ErrorCode.DIET_FORBIDDEN);
         LocalDate anchor = recordedAt.toLocalDate();
 
+        dailyUserTotalsService.lockDays(email, recordedAt);
         dietFoodMapper.deleteDietFoodsByDietId(dietId);
         int deleted = dietRecordMapper.deleteDietRecord(dietId, email);
         if (deleted == 0) {
             throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
         }
 
+        dailyUserTotalsService.onDietChanged(email, recordedAt);
         challengeProgressTriggerService.onDietChanged(email, recordedAt);
 
         eventPublisher.publishEvent(new NutritionReviewRequestedEvent(email, anchor));
@@ -100,6 +129,7 @@ public class DietRecordService {
             throw new BusinessException(ErrorCode.DIET_FORBIDDEN);
         }
 
+        dailyUserTotalsService.lockDays(email, beforeRecordedAt, request.getRecordedAt());
         int updated = dietRecordMapper.updateDietRecord(dietId, email, request);
         if (updated == 0) {
             throw new BusinessException(ErrorCode.DIET_NOT_FOUND);
@@ -109,9 +139,11 @@ public class DietRecordService {
         if (request.getItems() != null && !request.getItems().isEmpty()) {
             dietFoodMapper.insertDietFoods(dietId, request.getItems());
         }
+        dietRecordMapper.updateNutritionTotals(List.of(dietId));
 
         LocalDateTime afterRecordedAt = request.getRecordedAt();
 
+        dailyUserTotalsService.onDietChanged(email, beforeRecordedAt, afterRecordedAt);
         challengeProgressTriggerService.onDietChanged(email, beforeRecordedAt);
         if (!afterRecordedAt.toLocalDate().isEqual(beforeRecordedAt.toLocalDate())) {
             challengeProgressTriggerService.onDietChanged(email, afterRecordedAt);
@@ -120,5 +152,12 @@ public class DietRecordService {
         LocalDate anchor = afterRecordedAt.toLocalDate();
         eventPublisher.publishEvent(new NutritionReviewRequestedEvent(email, anchor));
     }
-}
 
+    private static double sum(List<DietRecordDto> diets, Function<DietRecordDto, Double> nutrient) {
+        return diets.stream()
+                .map(nutrient)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+}
@@ -0,0 +1,303 @@
+package com.yumyumcoach.domain.diet.service;
+
+import com.yumyumcoach.domain.diet.dto.FoodDto;
+import com.yumyumcoach.domain.diet.event.FoodChangedEvent;
+import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import com.yumyumcoach.global.common.IntList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 음식 이름 검색용 메모리 역색인 (문자 1-gram + 2-gram).
+ * - 음식 이름을 소문자 + 공백 제거로 정규화한 뒤, 글자(1-gram)와 연속 두 글자(2-gram)마다 문서 번호 posting list(int[]) 를 유지
+ * - 검색어가 1글자면 1-gram, 2글자 이상이면 2-gram posting list 들의 교집합을 구한 뒤 실제 포함 여부로 최종 확인
+ *   -> 접두/중간 일치 모두 지원, 전체 음식 수와 무관하게 가장 짧은 posting list 길이만큼만 확인
+ * - 정렬: 완전 일치 > 접두 일치 > 중간 일치, 같은 등급이면 이름이 짧은 순, 그다음 최신(id 큰) 순
+ * - 문서 번호는 추가 순서대로만 늘어나므로 posting list 는 항상 오름차순 (교집합은 이진 탐색)
+ * - 수정/삭제는 기존 문서를 비우고(tombstone) 새 문서를 덧붙임, 주기적 재적재로 정리 + 다른 인스턴스 변경 반영
+ * - 재적재는 새 구조를 잠금 밖에서 만들므로, 그 사이 들어온 변경은 기록해 두었다가 교체 직전에 새 구조에도 다시 적용
+ */
+@Component
+@RequiredArgsConstructor
+public class FoodSearchIndex {
+
+    private final FoodMapper foodMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 번호 -> 음식 (null 이면 삭제/수정으로 비워진 문서)
+    private List<FoodDto> docs = new ArrayList<>();
+    // 문서 번호 -> 정규화된 이름
+    private List<String> keys = new ArrayList<>();
+    private Map<Long, Integer> docIdsByFoodId = new HashMap<>();
+    private Map<Integer, IntList> postings = new HashMap<>();
+
+    // 재적재 중에 반영된 변경 (foodId -> 변경 후 음식, 삭제면 null). null 이면 재적재 중 아님. 읽기/쓰기는 write lock 안에서
+    private Map<Long, FoodDto> changedDuringReload;
+
+    // 적재 전에는 검색하지 않음 (호출 측이 DB 로 대체)
+    private volatile boolean loaded;
+
+    /**
+     * 키워드 검색 (관련도 순 페이지)
+     * - 색인이 아직 적재되지 않았거나 검색어가 비어 있으면 null (호출 측에서 DB 조회)
+     */
+    public List<FoodDto> search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+        if (!loaded || query.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Integer> matches = findMatches(query);
+            if (offset >= matches.size()) {
+                return Collections.emptyList();
+            }
+            matches.sort(rankingFor(query));
+            return matches.subList(offset, Math.min(offset + limit, matches.size())).stream()
+                    .map(docs::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 적재되지 않았으면 지금 적재 (containsFood 를 쓰기 전에 트랜잭션 밖에서 호출)
+     */
+    public void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    /**
+     * 음식 id 존재 여부 (식단 일괄 등록 시 음식 검증용, DB 조회 없음)
+     */
+    public boolean containsFood(Long foodId) {
+        lock.readLock().lock();
+        try {
+            return docIdsByFoodId.containsKey(foodId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            changedDuringReload = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<FoodDto> newDocs = new ArrayList<>();
+        List<String> newKeys = new ArrayList<>();
+        Map<Long, Integer> newDocIds = new HashMap<>();
+        Map<Integer, IntList> newPostings = new HashMap<>();
+
+        try {
+            foodMapper.streamFoods(context ->
+                    appendLocked(context.getResultObject(), newDocs, newKeys, newDocIds, newPostings));
+
+            lock.writeLock().lock();
+            try {
+                // 스트리밍이 변경 전 행을 읽었을 수 있으므로 그 사이 변경을 새 구조에 다시 적용 (같은 결과라 중복 적용해도 무방)
+                changedDuringReload.forEach((foodId, food) ->
+                        replaceLocked(foodId, food, newDocs, newKeys, newDocIds, newPostings));
+                docs = newDocs;
+                keys = newKeys;
+                docIdsByFoodId = newDocIds;
+                postings = newPostings;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 음식 등록/수정/삭제 커밋 후 해당 음식만 다시 읽어 색인에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFoodChanged(FoodChangedEvent event) {
+        FoodDto food = foodMapper.selectFoodById(event.foodId());
+
+        lock.writeLock().lock();
+        try {
+            replaceLocked(event.foodId(), food, docs, keys, docIdsByFoodId, postings);
+            if (changedDuringReload != null) {
+                changedDuringReload.put(event.foodId(), food);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Integer> findMatches(String query) {
+        int[] grams = gramsOf(query);
+        IntList[] lists = new IntList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new ArrayList<>();
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(IntList::size));
+
+        List<Integer> matches = new ArrayList<>();
+        IntList smallest = lists[0];
+        for (int i = 0; i < smallest.size(); i++) {
+            int docId = smallest.get(i);
+            if (docs.get(docId) == null || !containsAll(lists, docId)) {
+                continue;
+            }
+            // 2-gram 이 모두 있어도 순서가 다를 수 있으므로 실제 포함 여부로 확인
+            if (keys.get(docId).contains(query)) {
+                matches.add(docId);
+            }
+        }
+        return matches;
+    }
+
+    private Comparator<Integer> rankingFor(String query) {
+        return Comparator.<Integer>comparingInt(docId -> matchRank(keys.get(docId), query))
+                .thenComparingInt(docId -> keys.get(docId).length())
+                .thenComparing(docId -> docs.get(docId).getId(), Comparator.reverseOrder());
+    }
+
+    private static int matchRank(String key, String query) {
+        if (key.equals(query)) {
+            return 0;
+        }
+        return key.startsWith(query) ? 1 : 2;
+    }
+
+    private static boolean containsAll(IntList[] lists, int docId) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!contains(lists[i], docId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(IntList sorted, int value) {
+        int low = 0;
+        int high = sorted.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int current = sorted.get(mid);
+            if (current < value) {
+                low = mid + 1;
+            } else if (current > value) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 기존 문서를 비우고(tombstone) 변경 후 음식이 있으면 새 문서로 덧붙임
+    private static void replaceLocked(Long foodId,
+                                      FoodDto food,
+                                      List<FoodDto> docs,
+                                      List<String> keys,
+                                      Map<Long, Integer> docIdsByFoodId,
+                                      Map<Integer, IntList> postings) {
+        Integer previous = docIdsByFoodId.remove(foodId);
+        if (previous != null) {
+            docs.set(previous, null);
+        }
+        if (food != null) {
+            appendLocked(food, docs, keys, docIdsByFoodId, postings);
+        }
+    }
+
+    private static void appendLocked(FoodDto food,
+                                     List<FoodDto> docs,
+                                     List<String> keys,
+                                     Map<Long, Integer> docIdsByFoodId,
+                                     Map<Integer, IntList> postings) {
+        int docId = docs.size();
+        String key = normalize(food.getName());
+        docs.add(food);
+        keys.add(key);
+        docIdsByFoodId.put(food.getId(), docId);
+
+        for (int i = 0; i < key.length(); i++) {
+            addPosting(postings, unigram(key.charAt(i)), docId);
+            if (i + 1 < key.length()) {
+                addPosting(postings, bigram(key.charAt(i), key.charAt(i + 1)), docId);
+            }
+        }
+    }
+
+    private static void addPosting(Map<Integer, IntList> postings, int gram, int docId) {
+        IntList list = postings.computeIfAbsent(gram, g -> new IntList());
+        // 같은 이름 안에서 gram 이 반복되면 한 번만 기록
+        if (list.isEmpty() || list.get(list.size() - 1) != docId) {
+            list.add(docId);
+        }
+    }
+
+    private static int[] gramsOf(String query) {
+        if (query.length() == 1) {
+            return new int[]{unigram(query.charAt(0))};
+        }
+        return IntStream.range(0, query.length() - 1)
+                .map(i -> bigram(query.charAt(i), query.charAt(i + 1)))
+                .distinct()
+                .toArray();
+    }
+
+    private static int unigram(char c) {
+        return c << 16;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
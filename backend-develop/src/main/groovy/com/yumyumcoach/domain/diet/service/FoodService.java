@@ -3,8 +3,11 @@ package com.yumyumcoach.domain.diet.service;
 import com.yumyumcoach.domain.diet.dto.CreateFoodRequest;
 import com.yumyumcoach.domain.diet.dto.FoodDto;
 import com.yumyumcoach.domain.diet.dto.UpdateFoodRequest;
+import com.yumyumcoach.domain.diet.event.FoodChangedEvent;
 import com.yumyumcoach.domain.diet.mapper.FoodMapper;
+import com.yumyumcoach.global.web.ResourceChangedEvent;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,15 +16,25 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class FoodService {
 
+    private static final String FOODS_RESOURCE = "foods";
+
     private final FoodMapper foodMapper;
+    private final FoodSearchIndex foodSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public FoodService(FoodMapper foodMapper) {
+    public FoodService(FoodMapper foodMapper,
+                       FoodSearchIndex foodSearchIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.foodMapper = foodMapper;
+        this.foodSearchIndex = foodSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void createFood(CreateFoodRequest request) {
         foodMapper.insertFood(request);
+        eventPublisher.publishEvent(new FoodChangedEvent(request.getId()));
+        eventPublisher.publishEvent(ResourceChangedEvent.of(FOODS_RESOURCE));
     }
 
     @Transactional
@@ -30,6 +43,8 @@ public class FoodService {
         if (updated == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Food not found");
         }
+        eventPublisher.publishEvent(new FoodChangedEvent(id));
+        eventPublisher.publishEvent(ResourceChangedEvent.of(FOODS_RESOURCE));
     }
 
     @Transactional
@@ -38,6 +53,8 @@ public class FoodService {
         if (deleted == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Food not found");
         }
+        eventPublisher.publishEvent(new FoodChangedEvent(id));
+        eventPublisher.publishEvent(ResourceChangedEvent.of(FOODS_RESOURCE));
     }
 
     @Transactional(readOnly = true)
@@ -53,6 +70,11 @@ public class FoodService {
     public List<FoodDto> getFoods(String keyword, int page, int size) {
         int offset = Math.max(page, 0) * Math.max(size, 1);
         int limit = Math.max(size, 1);
+        // 키워드 검색은 메모리 색인 사용 (적재 전이거나 키워드가 없으면 DB)
+        List<FoodDto> indexed = foodSearchIndex.search(keyword, offset, limit);
+        if (indexed != null) {
+            return indexed;
+        }
         return foodMapper.selectFoods(keyword, offset, limit);
     }
 }
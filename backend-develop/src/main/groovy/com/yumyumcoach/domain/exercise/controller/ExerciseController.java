@@ -3,6 +3,7 @@ package com.yumyumcoach.domain.exercise.controller;
 import com.yumyumcoach.domain.exercise.dto.ExerciseResponse;
 import com.yumyumcoach.domain.exercise.dto.SearchResponse;
 import com.yumyumcoach.domain.exercise.service.ExerciseService;
+import com.yumyumcoach.global.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,12 +19,15 @@ import java.util.List;
 public class ExerciseController {
     private final ExerciseService exerciseService;
 
+    // 운동 카탈로그는 API 로 수정되지 않으므로 기동 시각이 곧 버전
     @GetMapping
+    @ConditionalGet(keys = "exercises")
     public List<ExerciseResponse> getExercises() {
         return exerciseService.getExercises();
     }
 
     @GetMapping("/search")
+    @ConditionalGet(keys = "exercises")
     public ResponseEntity<SearchResponse> search(@RequestParam ("keyword") String keyword,
                                                  @RequestParam(value = "page", defaultValue = "0") int page,
                                                  @RequestParam(value = "size", defaultValue = "5") int size) {
@@ -15,6 +15,8 @@ public interface ExerciseMapper {
 
     Exercise findById(@Param("exerciseId") Long exerciseId);
 
+    List<Exercise> findByIds(@Param("ids") List<Long> ids);
+
     List<SearchDto> searchExercise(@Param("keyword") String keyword,
                                    @Param("size") int size,
                                    @Param("offset") int offset);
@@ -5,7 +5,7 @@ import com.yumyumcoach.domain.exercise.entity.ExerciseRecordWithExercise;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -13,11 +13,20 @@ public interface ExerciseRecordMapper {
     ExerciseRecordWithExercise findDetailByIdAndEmail(@Param("recordId") Long recordId,
                                                       @Param("email") String email);
 
+    /**
+     * 하루치 운동 기록: recorded_at 이 [startAt, endAt) 인 기록
+     */
     List<ExerciseRecordWithExercise> findByEmailAndDate(@Param("email") String email,
-                                                        @Param("recordedAt") LocalDate recordedAt);
+                                                        @Param("startAt") LocalDateTime startAt,
+                                                        @Param("endAt") LocalDateTime endAt);
 
     void insert(ExerciseRecord exerciseRecord);
 
+    /**
+     * 여러 건을 한 문장(multi-row INSERT)으로 등록, 생성된 id 는 각 record 에 채워짐
+     */
+    void insertAll(@Param("email") String email, @Param("records") List<ExerciseRecord> records);
+
     void update(ExerciseRecord exerciseRecord);
 
     void delete(@Param("recordId") Long recordId, @Param("email") String email);
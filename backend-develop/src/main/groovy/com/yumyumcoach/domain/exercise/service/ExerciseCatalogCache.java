@@ -0,0 +1,30 @@
+package com.yumyumcoach.domain.exercise.service;
+
+import com.yumyumcoach.domain.exercise.entity.Exercise;
+import com.yumyumcoach.global.cache.LocalCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 운동 카탈로그 캐시 (exerciseId 기준).
+ * - 운동 기록 등록/수정마다 MET 값을 읽으려고 exercises 를 반복 조회하지 않도록 흡수
+ * - exercises 는 시드 데이터로만 바뀌므로(앱에서 수정 API 없음) TTL 만료로 반영
+ */
+@Component
+public class ExerciseCatalogCache {
+
+    private static final int MAX_SIZE = 5_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final LocalCache<Long, Exercise> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    public Map<Long, Exercise> getAll(Collection<Long> exerciseIds,
+                                      Function<List<Long>, Map<Long, Exercise>> loader) {
+        return cache.getAll(exerciseIds, loader);
+    }
+}
@@ -8,6 +8,7 @@ import com.yumyumcoach.domain.exercise.entity.ExerciseRecord;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecordWithExercise;
 import com.yumyumcoach.domain.exercise.mapper.ExerciseMapper;
 import com.yumyumcoach.domain.exercise.mapper.ExerciseRecordMapper;
+import com.yumyumcoach.domain.stats.service.DailyUserTotalsService;
 import com.yumyumcoach.domain.user.entity.Profile;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.global.exception.BusinessException;
@@ -22,7 +23,11 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +39,8 @@ public class ExerciseService {
     private final ProfileMapper profileMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final ChallengeProgressTriggerService challengeProgressTriggerService;
+    private final DailyUserTotalsService dailyUserTotalsService;
+    private final ExerciseCatalogCache exerciseCatalogCache;
 
     private static final int MIN_KEYWORD_LENGTH = 2;
     private static final int SIZE_LIMIT = 10;
@@ -46,7 +53,8 @@ public class ExerciseService {
     }
 
     public List<ExerciseRecordResponse> getMyExerciseRecords(String email, LocalDate recordDate) {
-        return exerciseRecordMapper.findByEmailAndDate(email, recordDate).stream()
+        return exerciseRecordMapper.findByEmailAndDate(
+                        email, recordDate.atStartOfDay(), recordDate.plusDays(1).atStartOfDay()).stream()
                 .map(this::toExerciseRecordResponse)
                 .toList();
     }
@@ -61,14 +69,43 @@ public class ExerciseService {
         return toExerciseRecordResponse(record);
     }
 
+    /**
+     * 운동 기록 일괄 등록
+     * - 몸무게 1번 조회 + MET 는 운동 카탈로그 캐시에서 + multi-row INSERT 1번, 응답은 메모리에서 조립
+     */
     @Transactional
     public List<ExerciseRecordResponse> createMyExerciseRecords(String email, List<ExerciseRecordRequest> requests) {
-        List<ExerciseRecordResponse> result = requests.stream()
-                .map(req -> createExerciseRecord(email, req))
+        double weight = loadWeight(email);
+        Map<Long, Exercise> exercises = loadExercises(requests.stream()
+                .map(ExerciseRecordRequest::getExerciseId)
+                .distinct()
+                .toList());
+
+        List<ExerciseRecord> records = new ArrayList<>(requests.size());
+        for (ExerciseRecordRequest request : requests) {
+            Exercise exercise = exercises.get(request.getExerciseId());
+            records.add(ExerciseRecord.builder()
+                    .email(email)
+                    .exerciseId(request.getExerciseId())
+                    .recordedAt(request.getRecordedAt())
+                    .durationMinutes(request.getDurationMinutes())
+                    .calories(calculateCalories(exercise, weight, request.getDurationMinutes()))
+                    .build());
+        }
+        dailyUserTotalsService.lockDays(email, requests.stream()
+                .map(ExerciseRecordRequest::getRecordedAt)
+                .toList());
+        exerciseRecordMapper.insertAll(email, records);
+
+        List<ExerciseRecordResponse> result = records.stream()
+                .map(record -> toExerciseRecordResponse(record, exercises.get(record.getExerciseId())))
                 .toList();
 
         LocalDateTime recordedAt = requests.get(0).getRecordedAt();
 
+        dailyUserTotalsService.onExerciseChanged(email, requests.stream()
+                .map(ExerciseRecordRequest::getRecordedAt)
+                .toList());
         challengeProgressTriggerService.onExerciseChanged(email, recordedAt);
 
         LocalDate anchor = recordedAt.toLocalDate();
@@ -87,7 +124,8 @@ public class ExerciseService {
         }
         LocalDateTime beforeRecordedAt = before.getRecordedAt();
 
-        double calories = calculateCalories(email, request.getExerciseId(), request.getDurationMinutes());
+        Exercise exercise = loadExercises(List.of(request.getExerciseId())).get(request.getExerciseId());
+        double calories = calculateCalories(exercise, loadWeight(email), request.getDurationMinutes());
 
         ExerciseRecord exerciseRecord = ExerciseRecord.builder()
                 .id(recordId)
@@ -98,10 +136,12 @@ public class ExerciseService {
                 .calories(calories)
                 .build();
 
-        exerciseRecordMapper.update(exerciseRecord);
-
         LocalDateTime afterRecordedAt = request.getRecordedAt();
 
+        dailyUserTotalsService.lockDays(email, beforeRecordedAt, afterRecordedAt);
+        exerciseRecordMapper.update(exerciseRecord);
+
+        dailyUserTotalsService.onExerciseChanged(email, beforeRecordedAt, afterRecordedAt);
         challengeProgressTriggerService.onExerciseChanged(email, beforeRecordedAt);
         if (!afterRecordedAt.toLocalDate().isEqual(beforeRecordedAt.toLocalDate())) {
             challengeProgressTriggerService.onExerciseChanged(email, afterRecordedAt);
@@ -118,7 +158,9 @@ public class ExerciseService {
         checkRecordOwnerOrThrow(email, recordId);
         ExerciseRecordWithExercise before = exerciseRecordMapper.findDetailByIdAndEmail(recordId, email);
         if (before == null) throw new BusinessException(ErrorCode.EXERCISE_RECORD_NOT_FOUND);
+        dailyUserTotalsService.lockDays(email, before.getRecordedAt());
         exerciseRecordMapper.delete(recordId, email);
+        dailyUserTotalsService.onExerciseChanged(email, before.getRecordedAt());
         challengeProgressTriggerService.onExerciseChanged(email, before.getRecordedAt());
         LocalDate anchor = before.getRecordedAt().toLocalDate();
         eventPublisher.publishEvent(new ExerciseReviewRequestedEvent(email, anchor));
@@ -143,12 +185,20 @@ public class ExerciseService {
         }
     }
 
-    private double calculateCalories(String email, Long exerciseId, Double durationMinutes) {
-        Exercise exercise = exerciseMapper.findById(exerciseId);
-        if (exercise == null) {
+    /**
+     * 요청한 운동 전부를 카탈로그 캐시에서 조회 (캐시에 없는 것만 IN 조회 1번), 하나라도 없으면 404
+     */
+    private Map<Long, Exercise> loadExercises(List<Long> exerciseIds) {
+        Map<Long, Exercise> exercises = exerciseCatalogCache.getAll(exerciseIds, missing ->
+                exerciseMapper.findByIds(missing).stream()
+                        .collect(Collectors.toMap(Exercise::getId, Function.identity())));
+        if (exercises.size() < exerciseIds.size()) {
             throw new BusinessException(ErrorCode.EXERCISE_NOT_FOUND);
         }
+        return exercises;
+    }
 
+    private double loadWeight(String email) {
         Profile profile = profileMapper.findByEmail(email);
         if (profile == null) {
             throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
@@ -158,7 +208,10 @@ public class ExerciseService {
             // 몸무게가 지정이 안되어있으면 기본값인 60으로 계산
             currentWeight = 60.0;
         }
+        return currentWeight;
+    }
 
+    private double calculateCalories(Exercise exercise, double currentWeight, Double durationMinutes) {
         double durationHours = durationMinutes / 60.0;
         double rawCalories = exercise.getMet() * currentWeight * durationHours;
 
@@ -192,19 +245,18 @@ public class ExerciseService {
                 .build();
     }
 
-    private ExerciseRecordResponse createExerciseRecord(String email, ExerciseRecordRequest request) {
-        double calories = calculateCalories(email, request.getExerciseId(), request.getDurationMinutes());
-
-        ExerciseRecord exerciseRecord = ExerciseRecord.builder()
-                .email(email)
-                .exerciseId(request.getExerciseId())
-                .recordedAt(request.getRecordedAt())
-                .durationMinutes(request.getDurationMinutes())
-                .calories(calories)
+    private ExerciseRecordResponse toExerciseRecordResponse(ExerciseRecord record, Exercise exercise) {
+        return ExerciseRecordResponse.builder()
+                .recordId(record.getId())
+                .exerciseId(record.getExerciseId())
+                .exerciseName(exercise.getName())
+                .met(exercise.getMet())
+                .intensityLevel(exercise.getIntensityLevel())
+                .type(exercise.getType())
+                .recordedAt(record.getRecordedAt())
+                .durationMinutes(record.getDurationMinutes())
+                .calories(record.getCalories())
                 .build();
-
-        exerciseRecordMapper.insert(exerciseRecord);
-        return getMyExerciseRecordDetail(email, exerciseRecord.getId());
     }
 
     // 운동 검색 기능
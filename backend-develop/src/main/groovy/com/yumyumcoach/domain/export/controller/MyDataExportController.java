@@ -0,0 +1,55 @@
+package com.yumyumcoach.domain.export.controller;
+
+import com.yumyumcoach.domain.export.model.ExportDataset;
+import com.yumyumcoach.domain.export.model.ExportFormat;
+import com.yumyumcoach.domain.export.service.MyDataExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me/export")
+public class MyDataExportController {
+
+    private final MyDataExportService myDataExportService;
+
+    /**
+     * 내 데이터 전체 내보내기 (응답 본문으로 바로 스트리밍)
+     * - format=ndjson (기본): dataset 미지정 시 식단/운동/AI 리뷰 전체, 줄마다 type 필드로 구분
+     * - format=csv: dataset(diets, exercises, nutrition-reviews, exercise-reviews) 하나 필수
+     */
+    @GetMapping
+    public void exportMyData(
+            Principal principal,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "dataset", required = false) String dataset,
+            HttpServletResponse response
+    ) throws IOException {
+        String email = principal.getName();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportDataset exportDataset = dataset != null ? ExportDataset.from(dataset) : null;
+        // 헤더를 쓰기 전에 검증해야 오류가 일반 JSON 응답으로 나감
+        myDataExportService.validate(exportFormat, exportDataset);
+
+        String baseName = exportDataset != null
+                ? "yumyumcoach-" + exportDataset.name().toLowerCase(Locale.ROOT).replace('_', '-')
+                : "yumyumcoach-export";
+        if (exportFormat == ExportFormat.CSV) {
+            response.setContentType("text/csv; charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + baseName + ".csv\"");
+        } else {
+            response.setContentType("application/x-ndjson; charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + baseName + ".ndjson\"");
+        }
+
+        myDataExportService.export(email, exportFormat, exportDataset, response.getOutputStream());
+    }
+}
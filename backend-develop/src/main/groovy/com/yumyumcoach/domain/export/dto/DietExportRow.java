@@ -0,0 +1,31 @@
+package com.yumyumcoach.domain.export.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식단 내보내기 행 (식단 x 음식 1행, 음식이 없는 식단은 음식 컬럼이 null 인 1행)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DietExportRow {
+    private Long dietId;
+    private LocalDateTime recordedAt;
+    private String mealType;
+    private String imageUrl;
+    private Double totalCarbs;
+    private Double totalProtein;
+    private Double totalFat;
+    private Double totalCalories;
+
+    private Long foodId;
+    private String foodName;
+    private Double serveCount;
+    private Integer orderIndex;
+}
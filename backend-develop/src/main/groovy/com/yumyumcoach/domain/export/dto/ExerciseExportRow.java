@@ -0,0 +1,21 @@
+package com.yumyumcoach.domain.export.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseExportRow {
+    private Long id;
+    private Long exerciseId;
+    private String exerciseName;
+    private LocalDateTime recordedAt;
+    private Double durationMinutes;
+    private Double calories;
+}
@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.export.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AI 주간 영양 리뷰 내보내기 행 (프롬프트/원본 응답 같은 내부 컬럼은 제외)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutritionReviewExportRow {
+    private LocalDate weekStartDate;
+    private LocalDate weekEndDate;
+    private LocalDate evaluatedUntilDate;
+    private String carbohydrateStatus;
+    private String proteinStatus;
+    private String fatStatus;
+    private String calorieStatus;
+    private String summaryText;
+    private LocalDateTime updatedAt;
+}
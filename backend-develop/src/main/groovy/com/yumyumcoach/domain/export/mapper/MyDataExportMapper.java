@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.export.mapper;
+
+import com.yumyumcoach.domain.export.dto.DietExportRow;
+import com.yumyumcoach.domain.export.dto.ExerciseExportRow;
+import com.yumyumcoach.domain.export.dto.ExerciseReviewExportRow;
+import com.yumyumcoach.domain.export.dto.NutritionReviewExportRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * 내 데이터 내보내기용 Mapper.
+ * - 모두 Cursor + 스트리밍 fetch 로 한 행씩 읽음 (트랜잭션 안에서 순서대로 하나씩 열고 닫아야 함)
+ */
+@Mapper
+public interface MyDataExportMapper {
+
+    /**
+     * 식단 x 음식 행 (recorded_at, 식단 id, order_index 순 -> 같은 식단의 행이 연속)
+     */
+    Cursor<DietExportRow> cursorDietRows(@Param("email") String email);
+
+    Cursor<ExerciseExportRow> cursorExerciseRows(@Param("email") String email);
+
+    Cursor<NutritionReviewExportRow> cursorNutritionReviews(@Param("email") String email);
+
+    Cursor<ExerciseReviewExportRow> cursorExerciseReviews(@Param("email") String email);
+}
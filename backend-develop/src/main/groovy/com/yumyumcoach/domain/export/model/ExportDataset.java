@@ -0,0 +1,21 @@
+package com.yumyumcoach.domain.export.model;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+public enum ExportDataset {
+    DIETS,              // 식단 + 음식
+    EXERCISES,          // 운동 기록
+    NUTRITION_REVIEWS,  // AI 주간 영양 리뷰
+    EXERCISE_REVIEWS;   // AI 주간 운동 리뷰
+
+    public static ExportDataset from(String value) {
+        try {
+            return ExportDataset.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "dataset 은 diets / exercises / nutrition-reviews / exercise-reviews 중 하나여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.yumyumcoach.domain.export.model;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    NDJSON,  // 한 줄에 레코드 1건 (type 필드로 구분)
+    CSV;     // dataset 하나만, 한 줄에 행 1개
+
+    public static ExportFormat from(String value) {
+        try {
+            return ExportFormat.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "format 은 ndjson / csv 중 하나여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.yumyumcoach.domain.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yumyumcoach.domain.export.dto.DietExportRow;
+import com.yumyumcoach.domain.export.dto.ExerciseExportRow;
+import com.yumyumcoach.domain.export.dto.ExerciseReviewExportRow;
+import com.yumyumcoach.domain.export.dto.NutritionReviewExportRow;
+import com.yumyumcoach.domain.export.mapper.MyDataExportMapper;
+import com.yumyumcoach.domain.export.model.ExportDataset;
+import com.yumyumcoach.domain.export.model.ExportFormat;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내 데이터 내보내기 (식단 + 음식, 운동 기록, AI 주간 리뷰).
+ * - MyBatis Cursor 로 한 행씩 읽어 바로 응답 스트림에 씀 -> 기록 기간과 무관하게 메모리 일정, 시간은 행 수에 비례
+ * - NDJSON: 한 줄에 레코드 1건, type 필드로 구분 (dataset 미지정 시 전체). 식단은 음식 items 를 묶어 1줄
+ * - CSV: dataset 하나만, 식단은 음식 1건당 1줄이고 앞 4컬럼이 가져오기 형식과 같아 그대로 다시 가져올 수 있음
+ */
+@Service
+@RequiredArgsConstructor
+public class MyDataExportService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final MyDataExportMapper myDataExportMapper;
+
+    /**
+     * 아무것도 쓰기 전에 검증 (응답이 커밋되기 전이라 오류 응답을 그대로 돌려줄 수 있음)
+     */
+    public void validate(ExportFormat format, ExportDataset dataset) {
+        if (format == ExportFormat.CSV && dataset == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "CSV 내보내기는 dataset 을 지정해야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void export(String email, ExportFormat format, ExportDataset dataset, OutputStream out) throws IOException {
+        validate(format, dataset);
+        boolean csv = format == ExportFormat.CSV;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (csv) {
+            // 엑셀에서 한글이 깨지지 않도록
+            writer.write(UTF8_BOM);
+        }
+
+        List<ExportDataset> datasets = dataset != null ? List.of(dataset) : List.of(ExportDataset.values());
+        for (ExportDataset target : datasets) {
+            switch (target) {
+                case DIETS -> exportDiets(email, csv, writer);
+                case EXERCISES -> exportExercises(email, csv, writer);
+                case NUTRITION_REVIEWS -> exportNutritionReviews(email, csv, writer);
+                case EXERCISE_REVIEWS -> exportExerciseReviews(email, csv, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void exportDiets(String email, boolean csv, Writer writer) throws IOException {
+        try (Cursor<DietExportRow> cursor = myDataExportMapper.cursorDietRows(email)) {
+            if (csv) {
+                writeCsv(writer, "recorded_at", "meal_type", "food_id", "serve_count", "food_name", "order_index", "diet_id");
+                for (DietExportRow row : cursor) {
+                    // 음식 1건당 1줄 (음식 없는 식단은 API 로 만들 수 없어 CSV 에서는 생략)
+                    if (row.getFoodId() != null) {
+                        writeCsv(writer, row.getRecordedAt(), row.getMealType(), row.getFoodId(), row.getServeCount(),
+                                row.getFoodName(), row.getOrderIndex(), row.getDietId());
+                    }
+                }
+                return;
+            }
+
+            // 같은 식단의 행은 연속으로 오므로 식단 하나 분량만 모았다가 식단이 바뀔 때 1줄로 씀
+            DietExportRow head = null;
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (DietExportRow row : cursor) {
+                if (head != null && !head.getDietId().equals(row.getDietId())) {
+                    writeDietJson(writer, head, items);
+                    items = new ArrayList<>();
+                }
+                if (head == null || !head.getDietId().equals(row.getDietId())) {
+                    head = row;
+                }
+                if (row.getFoodId() != null) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("foodId", row.getFoodId());
+                    item.put("foodName", row.getFoodName());
+                    item.put("serveCount", row.getServeCount());
+                    item.put("orderIndex", row.getOrderIndex());
+                    items.add(item);
+                }
+            }
+            if (head != null) {
+                writeDietJson(writer, head, items);
+            }
+        }
+    }
+
+    private void writeDietJson(Writer writer, DietExportRow diet, List<Map<String, Object>> items) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "diet");
+        line.put("id", diet.getDietId());
+        line.put("recordedAt", text(diet.getRecordedAt()));
+        line.put("mealType", diet.getMealType());
+        line.put("imageUrl", diet.getImageUrl());
+        line.put("totalCarbs", diet.getTotalCarbs());
+        line.put("totalProtein", diet.getTotalProtein());
+        line.put("totalFat", diet.getTotalFat());
+        line.put("totalCalories", diet.getTotalCalories());
+        line.put("items", items);
+        writeJson(writer, line);
+    }
+
+    private void exportExercises(String email, boolean csv, Writer writer) throws IOException {
+        try (Cursor<ExerciseExportRow> cursor = myDataExportMapper.cursorExerciseRows(email)) {
+            if (csv) {
+                writeCsv(writer, "recorded_at", "exercise_id", "exercise_name", "duration_minutes", "calories", "id");
+            }
+            for (ExerciseExportRow row : cursor) {
+                if (csv) {
+                    writeCsv(writer, row.getRecordedAt(), row.getExerciseId(), row.getExerciseName(),
+                            row.getDurationMinutes(), row.getCalories(), row.getId());
+                    continue;
+                }
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("type", "exercise");
+                line.put("id", row.getId());
+                line.put("recordedAt", text(row.getRecordedAt()));
+                line.put("exerciseId", row.getExerciseId());
+                line.put("exerciseName", row.getExerciseName());
+                line.put("durationMinutes", row.getDurationMinutes());
+                line.put("calories", row.getCalories());
+                writeJson(writer, line);
+            }
+        }
+    }
+
+    private void exportNutritionReviews(String email, boolean csv, Writer writer) throws IOException {
+        try (Cursor<NutritionReviewExportRow> cursor = myDataExportMapper.cursorNutritionReviews(email)) {
+            if (csv) {
+                writeCsv(writer, "week_start_date", "week_end_date", "evaluated_until_date", "carbohydrate_status",
+                        "protein_status", "fat_status", "calorie_status", "summary_text", "updated_at");
+            }
+            for (NutritionReviewExportRow row : cursor) {
+                if (csv) {
+                    writeCsv(writer, row.getWeekStartDate(), row.getWeekEndDate(), row.getEvaluatedUntilDate(),
+                            row.getCarbohydrateStatus(), row.getProteinStatus(), row.getFatStatus(),
+                            row.getCalorieStatus(), row.getSummaryText(), row.getUpdatedAt());
+                    continue;
+                }
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("type", "nutritionReview");
+                line.put("weekStartDate", text(row.getWeekStartDate()));
+                line.put("weekEndDate", text(row.getWeekEndDate()));
+                line.put("evaluatedUntilDate", text(row.getEvaluatedUntilDate()));
+                line.put("carbohydrateStatus", row.getCarbohydrateStatus());
+                line.put("proteinStatus", row.getProteinStatus());
+                line.put("fatStatus", row.getFatStatus());
+                line.put("calorieStatus", row.getCalorieStatus());
+                line.put("summaryText", row.getSummaryText());
+                line.put("updatedAt", text(row.getUpdatedAt()));
+                writeJson(writer, line);
+            }
+        }
+    }
+
+    private void exportExerciseReviews(String email, boolean csv, Writer writer) throws IOException {
+        try (Cursor<ExerciseReviewExportRow> cursor = myDataExportMapper.cursorExerciseReviews(email)) {
+            if (csv) {
+                writeCsv(writer, "week_start_date", "week_end_date", "evaluated_until_date", "volume_status",
+                        "recommendation", "summary_text", "updated_at");
+            }
+            for (ExerciseReviewExportRow row : cursor) {
+                if (csv) {
+                    writeCsv(writer, row.getWeekStartDate(), row.getWeekEndDate(), row.getEvaluatedUntilDate(),
+                            row.getVolumeStatus(), row.getRecommendation(), row.getSummaryText(), row.getUpdatedAt());
+                    continue;
+                }
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("type", "exerciseReview");
+                line.put("weekStartDate", text(row.getWeekStartDate()));
+                line.put("weekEndDate", text(row.getWeekEndDate()));
+                line.put("evaluatedUntilDate", text(row.getEvaluatedUntilDate()));
+                line.put("volumeStatus", row.getVolumeStatus());
+                line.put("recommendation", row.getRecommendation());
+                line.put("summaryText", row.getSummaryText());
+                line.put("updatedAt", text(row.getUpdatedAt()));
+                writeJson(writer, line);
+            }
+        }
+    }
+
+    private static void writeJson(Writer writer, Map<String, Object> line) throws IOException {
+        writer.write(OBJECT_MAPPER.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    private static void writeCsv(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = text(value).toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // 날짜/시각은 ISO-8601 문자열로 (가져오기 형식과 동일)
+    private static Object text(Object value) {
+        return value instanceof TemporalAccessor ? value.toString() : value;
+    }
+}
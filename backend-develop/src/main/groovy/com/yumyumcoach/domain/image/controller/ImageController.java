@@ -16,7 +16,7 @@ public class ImageController {
 
     @PostMapping("/presign")
     public PresignResponse presign(@RequestBody PresignRequest req) {
-        String email = CurrentUser.email();
-        return imagePresignService.createPresign(req, email);
+        Long accountId = CurrentUser.accountId();
+        return imagePresignService.createPresign(req, accountId);
     }
 }
@@ -1,6 +1,5 @@
 package com.yumyumcoach.domain.image.service;
 
-import com.yumyumcoach.domain.auth.mapper.AccountMapper;
 import com.yumyumcoach.domain.image.dto.ImagePurpose;
 import com.yumyumcoach.domain.image.dto.PresignRequest;
 import com.yumyumcoach.domain.image.dto.PresignResponse;
@@ -30,14 +29,13 @@ public class ImagePresignService {
 
     private final S3Presigner presigner;
     private final AwsS3Properties props;
-    private final AccountMapper accountMapper;
 
-    public PresignResponse createPresign(PresignRequest req, String email) {
+    public PresignResponse createPresign(PresignRequest req, Long accountId) {
         validate(req);
 
         String ext = extractExt(req.getFileName(), req.getContentType());
         String uuid = UUID.randomUUID().toString();
-        String objectKey = buildObjectKey(req.getPurpose(), email, uuid, ext);
+        String objectKey = buildObjectKey(req.getPurpose(), accountId, uuid, ext);
 
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -83,13 +81,9 @@ public class ImagePresignService {
         }
     }
 
-    private String buildObjectKey(ImagePurpose purpose, String email, String uuid, String ext) {
+    private String buildObjectKey(ImagePurpose purpose, Long accountId, String uuid, String ext) {
         return switch (purpose) {
-            case PROFILE -> {
-                Long userId = accountMapper.findIdByEmail(email);
-                if (userId == null) throw new BusinessException(ErrorCode.USER_NOT_FOUND);
-                yield "profiles/" + userId + "/" + uuid + "." + ext;
-            }
+            case PROFILE -> "profiles/" + accountId + "/" + uuid + "." + ext;
             case POST -> "posts/temp/" + uuid + "." + ext;
             case DIET -> "diets/temp/" + uuid + "." + ext;
             case CHALLENGE -> "challenges/" + uuid + "." + ext;
@@ -0,0 +1,30 @@
+package com.yumyumcoach.domain.stats.controller;
+
+import com.yumyumcoach.domain.stats.dto.MonthlyCalendarResponse;
+import com.yumyumcoach.domain.stats.service.MonthlyStatsService;
+import com.yumyumcoach.global.common.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me/stats/month")
+public class MonthlyStatsController {
+
+    private final MonthlyStatsService monthlyStatsService;
+
+    /**
+     * 캘린더 화면용 월간 요약: 날짜별 식단/운동 기록 여부 + 칼로리
+     * 예) GET /api/me/stats/month?month=2026-10 (생략 시 이번 달)
+     */
+    @GetMapping
+    public MonthlyCalendarResponse getMonthlyCalendar(
+            @RequestParam(value = "month", required = false) String month
+    ) {
+        String email = CurrentUser.email();
+        return monthlyStatsService.getMonthlyCalendar(email, month);
+    }
+}
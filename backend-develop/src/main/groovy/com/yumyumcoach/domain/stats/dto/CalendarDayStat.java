@@ -0,0 +1,20 @@
+package com.yumyumcoach.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayStat {
+    private LocalDate date;
+    private boolean hasDiet;
+    private boolean hasExercise;
+    private double calories;          // 섭취 칼로리
+    private double exerciseCalories;  // 운동 소모 칼로리
+}
@@ -0,0 +1,19 @@
+package com.yumyumcoach.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCalendarResponse {
+    private LocalDate monthStartDate;
+    private LocalDate monthEndDate;
+    private List<CalendarDayStat> days;
+}
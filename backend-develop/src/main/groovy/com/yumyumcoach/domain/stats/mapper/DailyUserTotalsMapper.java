@@ -0,0 +1,42 @@
+package com.yumyumcoach.domain.stats.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * daily_user_totals 롤업 갱신용 Mapper.
+ * - 하루치 합계를 증감으로 맞추지 않고 원본 기록에서 다시 집계해 덮어씀 (수정/삭제/날짜 이동에도 멱등)
+ * - 조회는 WeeklyStatsMapper / ChallengeParticipantMapper 에서 이 테이블을 직접 읽음
+ */
+@Mapper
+public interface DailyUserTotalsMapper {
+
+    /**
+     * 하루치 롤업 행을 배타 잠금 (없으면 빈 행 생성). 원본 기록을 쓰기 전에 날짜 순으로 호출
+     */
+    int lockDay(@Param("email") String email, @Param("date") LocalDate date);
+
+    /**
+     * 하루치 식단 합계(탄단지/칼로리/식단 수)를 diet_records 기준으로 재계산
+     */
+    int refreshDietTotals(@Param("email") String email, @Param("date") LocalDate date);
+
+    /**
+     * 하루치 운동 합계(운동 시간/칼로리/기록 수)를 exercise_records 기준으로 재계산
+     */
+    int refreshExerciseTotals(@Param("email") String email, @Param("date") LocalDate date);
+
+    /**
+     * 재구축용: 계정 email 을 email 순 keyset 으로 한 청크 조회
+     */
+    List<String> findAccountEmailsAfter(@Param("afterEmail") String afterEmail, @Param("limit") int limit);
+
+    int deleteByEmails(@Param("emails") List<String> emails);
+
+    int insertDietTotalsByEmails(@Param("emails") List<String> emails);
+
+    int upsertExerciseTotalsByEmails(@Param("emails") List<String> emails);
+}
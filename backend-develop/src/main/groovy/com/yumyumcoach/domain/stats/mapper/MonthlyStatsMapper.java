@@ -0,0 +1,17 @@
+package com.yumyumcoach.domain.stats.mapper;
+
+import com.yumyumcoach.domain.stats.dto.CalendarDayStat;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface MonthlyStatsMapper {
+    List<CalendarDayStat> selectCalendarDays(
+            @Param("email") String email,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,45 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.mapper.DailyUserTotalsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * daily_user_totals 재구축 작업.
+ * - 롤업은 기록 쓰기 트랜잭션에서 함께 갱신되지만, 수동 데이터 수정 등으로 어긋날 수 있어 매일 새벽 재계산
+ * - 식단 영양값은 diet_records 의 스냅샷 컬럼 기준이라 이후 foods 수정은 과거 합계에 영향을 주지 않음
+ * - email 순 keyset 청크 단위로 처리하고 청크마다 트랜잭션을 나눠 한 번에 잠그는 범위를 CHUNK_SIZE 명으로 제한
+ * - 롤업 테이블을 비우고 rebuildAll() 을 호출하면 전체 초기 적재 도구로도 사용 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyUserTotalsRebuilder {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final DailyUserTotalsMapper dailyUserTotalsMapper;
+    private final DailyUserTotalsService dailyUserTotalsService;
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuildAll() {
+        int accounts = 0;
+        String afterEmail = null;
+
+        while (true) {
+            List<String> emails = dailyUserTotalsMapper.findAccountEmailsAfter(afterEmail, CHUNK_SIZE);
+            if (emails.isEmpty()) {
+                break;
+            }
+            dailyUserTotalsService.rebuild(emails);
+            accounts += emails.size();
+            afterEmail = emails.get(emails.size() - 1);
+        }
+
+        log.info("daily_user_totals rebuilt for {} accounts", accounts);
+    }
+}
@@ -0,0 +1,80 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.mapper.DailyUserTotalsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자별 일일 합계 롤업(daily_user_totals) 갱신 서비스.
+ * - 식단/운동 기록을 쓰는 트랜잭션 안에서 호출되어 기록과 롤업이 함께 커밋/롤백됨
+ * - 챌린지 진행률 평가가 롤업을 읽으므로 ChallengeProgressTriggerService 보다 먼저 호출해야 함
+ * - 원본 기록을 쓰기 전에 lockDays 로 영향받는 날의 롤업 행을 날짜 순으로 먼저 잠가야 함
+ *   (잠금 순서가 "롤업 행 -> 원본 행"으로 고정되어 같은 날 동시 쓰기가 교착 없이 차례로 처리됨)
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyUserTotalsService {
+
+    private final DailyUserTotalsMapper dailyUserTotalsMapper;
+
+    @Transactional
+    public void lockDays(String email, Collection<LocalDateTime> recordedAts) {
+        for (LocalDate date : distinctDates(recordedAts)) {
+            dailyUserTotalsMapper.lockDay(email, date);
+        }
+    }
+
+    @Transactional
+    public void lockDays(String email, LocalDateTime... recordedAts) {
+        lockDays(email, Arrays.asList(recordedAts));
+    }
+
+    @Transactional
+    public void onDietChanged(String email, LocalDateTime... recordedAts) {
+        for (LocalDate date : distinctDates(Arrays.asList(recordedAts))) {
+            dailyUserTotalsMapper.refreshDietTotals(email, date);
+        }
+    }
+
+    @Transactional
+    public void onExerciseChanged(String email, Collection<LocalDateTime> recordedAts) {
+        for (LocalDate date : distinctDates(recordedAts)) {
+            dailyUserTotalsMapper.refreshExerciseTotals(email, date);
+        }
+    }
+
+    @Transactional
+    public void onExerciseChanged(String email, LocalDateTime... recordedAts) {
+        onExerciseChanged(email, Arrays.asList(recordedAts));
+    }
+
+    /**
+     * 주어진 계정들의 롤업을 원본 기록에서 통째로 다시 만듦 (재구축 도구용)
+     */
+    @Transactional
+    public void rebuild(List<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        dailyUserTotalsMapper.deleteByEmails(emails);
+        dailyUserTotalsMapper.insertDietTotalsByEmails(emails);
+        dailyUserTotalsMapper.upsertExerciseTotalsByEmails(emails);
+    }
+
+    private static List<LocalDate> distinctDates(Collection<LocalDateTime> recordedAts) {
+        return recordedAts.stream()
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
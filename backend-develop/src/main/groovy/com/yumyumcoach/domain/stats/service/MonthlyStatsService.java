@@ -0,0 +1,73 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.dto.CalendarDayStat;
+import com.yumyumcoach.domain.stats.dto.MonthlyCalendarResponse;
+import com.yumyumcoach.domain.stats.mapper.MonthlyStatsMapper;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월간 캘린더 요약.
+ * - daily_user_totals 롤업에서 한 달치를 한 번에 읽고, 기록 없는 날은 빈 행으로 채워 1일~말일 전부 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlyStatsService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MonthlyStatsMapper monthlyStatsMapper;
+
+    public MonthlyCalendarResponse getMonthlyCalendar(String email, String month) {
+        YearMonth targetMonth = parseMonthOrNow(month);
+        LocalDate monthStart = targetMonth.atDay(1);
+        LocalDate monthEnd = targetMonth.atEndOfMonth();
+
+        Map<LocalDate, CalendarDayStat> recorded = new HashMap<>();
+        monthlyStatsMapper.selectCalendarDays(email, monthStart, monthEnd)
+                .forEach(day -> recorded.put(day.getDate(), day));
+
+        List<CalendarDayStat> days = new ArrayList<>(targetMonth.lengthOfMonth());
+        for (LocalDate date = monthStart; !date.isAfter(monthEnd); date = date.plusDays(1)) {
+            days.add(recorded.getOrDefault(date, emptyDay(date)));
+        }
+
+        return MonthlyCalendarResponse.builder()
+                .monthStartDate(monthStart)
+                .monthEndDate(monthEnd)
+                .days(days)
+                .build();
+    }
+
+    private YearMonth parseMonthOrNow(String month) {
+        if (month == null || month.isBlank()) return YearMonth.now(KST);
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "month 형식이 올바르지 않습니다. (yyyy-MM)");
+        }
+    }
+
+    private CalendarDayStat emptyDay(LocalDate date) {
+        return CalendarDayStat.builder()
+                .date(date)
+                .hasDiet(false)
+                .hasExercise(false)
+                .calories(0)
+                .exerciseCalories(0)
+                .build();
+    }
+}
@@ -2,10 +2,12 @@ package com.yumyumcoach.domain.title.service;
 
 import com.yumyumcoach.domain.title.dto.*;
 import com.yumyumcoach.domain.title.mapper.TitleMapper;
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class TitleService {
 
     private final TitleMapper titleMapper;
     private final ProfileMapper profileMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MyTitleResponse getMyCurrentTitle(String email) {
         return titleMapper.findCurrentTitle(email);
@@ -36,6 +39,7 @@ public class TitleService {
         }
 
         profileMapper.updateDisplayTitle(email, titleId);
+        eventPublisher.publishEvent(new UserChangedEvent(email));
         return titleMapper.findCurrentTitle(email);
     }
 }
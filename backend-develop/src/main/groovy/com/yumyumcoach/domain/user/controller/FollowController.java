@@ -17,27 +17,29 @@ public class FollowController {
 
 
     @GetMapping("/me/followings")
-    public MyFollowingsResponse getMyFollowings() {
+    public MyFollowingsResponse getMyFollowings(GetFollowsRequest request) {
         String email = CurrentUser.email();
-        return followService.getMyFollowings(email);
+        return followService.getMyFollowings(email, request);
     }
 
     @GetMapping("/me/followers")
-    public MyFollowersResponse getMyFollowers() {
+    public MyFollowersResponse getMyFollowers(GetFollowsRequest request) {
         String email = CurrentUser.email();
-        return followService.getMyFollowers(email);
+        return followService.getMyFollowers(email, request);
     }
 
     @PostMapping("/{userId}/follow")
     public ResponseEntity<FollowUserResponse> follow(@PathVariable("userId") Long userId) {
+        Long myUserId = CurrentUser.accountId();
         String email = CurrentUser.email();
-        FollowUserResponse res = followService.followUser(email, userId);
+        FollowUserResponse res = followService.followUser(myUserId, email, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
     @DeleteMapping("/{userId}/follow")
     public UnfollowUserResponse unfollow(@PathVariable("userId") Long userId) {
+        Long myUserId = CurrentUser.accountId();
         String email = CurrentUser.email();
-        return followService.unfollowUser(email, userId);
+        return followService.unfollowUser(myUserId, email, userId);
     }
 }
@@ -5,12 +5,16 @@ import com.yumyumcoach.domain.user.dto.MyPageResponse;
 import com.yumyumcoach.domain.title.dto.MyTitleResponse;
 import com.yumyumcoach.domain.user.dto.UpdateMyBasicInfoRequest;
 import com.yumyumcoach.domain.user.dto.UpdateMyHealthInfoRequest;
+import com.yumyumcoach.domain.user.dto.UserCardResponse;
 import com.yumyumcoach.domain.user.dto.UserProfileResponse;
 import com.yumyumcoach.domain.user.service.UserService;
 import com.yumyumcoach.global.common.CurrentUser;
+import com.yumyumcoach.global.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -55,10 +59,20 @@ public class UserController {
         return userService.selectMyTitle(email, request.getTitleId());
     }
 
+    /**
+     * 작성자 카드 일괄 조회
+     * 예) GET /api/users/cards?ids=1,2,3
+     */
+    @GetMapping("/cards")
+    public List<UserCardResponse> getUserCards(@RequestParam("ids") List<Long> ids) {
+        return userService.getUserCards(ids);
+    }
+
     /**
      * 상대방 프로필 조회
      */
     @GetMapping("/{userId}")
+    @ConditionalGet(keys = {"user:{userId}", "users"}, perViewer = true)
     public UserProfileResponse getUserProfile(@PathVariable("userId") Long userId) {
         String viewerEmail = CurrentUser.email();
         return userService.getUserProfile(viewerEmail, userId);
@@ -0,0 +1,24 @@
+package com.yumyumcoach.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메모리 팔로우 그래프 적재/동기화용 간선 row.
+ * - 전체 적재 시에는 followed 가 항상 true
+ * - 변경 로그(follow_changes)에서는 followeeId 가 null 이면 followerId 계정의 모든 관계 제거(탈퇴)
+ * - 이메일은 계정이 삭제된 경우 null
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEdge {
+    private Long followerId;
+    private String followerEmail;
+    private Long followeeId;
+    private String followeeEmail;
+    private boolean followed;
+}
@@ -0,0 +1,27 @@
+package com.yumyumcoach.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로잉 / 팔로워 목록 한 페이지 조회 row.
+ * - followId / followedAt 은 다음 페이지 커서, email 은 맞팔 여부 일괄 확인용 (응답에는 내리지 않음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowUserRow {
+    private Long followId;
+    private LocalDateTime followedAt;
+
+    private Long userId;
+    private String email;
+    private String username;
+    private String profileImageUrl;
+    private String introduction;
+}
@@ -2,6 +2,7 @@ package com.yumyumcoach.domain.user.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,6 +17,10 @@ public class MyFollowingsResponse {
     private long totalCount;
     private List<User> users;
 
+    private boolean hasNext;                   // 다음 페이지 존재 여부
+    private LocalDateTime nextCursorFollowedAt; // 다음 페이지 요청 시 cursorFollowedAt (없으면 null)
+    private Long nextCursorId;                  // 다음 페이지 요청 시 cursorId (없으면 null)
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,48 @@
+package com.yumyumcoach.domain.user.dto;
+
+import com.yumyumcoach.domain.title.dto.MyTitleItemResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 마이페이지 / 상대방 프로필 구성용 사용자 집계 row.
+ * - accounts + profiles + 대표 타이틀 + 팔로우 수 + 보유 타이틀 목록을 한 번의 조회로 채움
+ * - UserAggregateCache 에 그대로 캐시되므로 조회자별 값(isFollowing 등)은 넣지 않음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAggregate {
+    private Long userId;
+    private String email;
+    private String username;
+
+    private String introduction;
+    private String profileImageUrl;
+
+    private LocalDate birthDate;
+    private Double height;
+    private Double currentWeight;
+    private Double targetWeight;
+    private Boolean hasDiabetes;
+    private Boolean hasHypertension;
+    private Boolean hasHyperlipidemia;
+    private String otherDisease;
+    private String goal;
+    private String activityLevel;
+
+    private Long currentTitleId;          // nullable
+    private String currentTitleName;      // nullable
+    private String currentTitleIconEmoji; // nullable
+
+    private long followersCount;
+    private long followingsCount;
+
+    private List<MyTitleItemResponse> titles;
+}
@@ -0,0 +1,24 @@
+package com.yumyumcoach.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작성자 카드 (피드/댓글/팔로우 목록 렌더링용 최소 사용자 정보)
+ * - GET /api/users/cards?ids=1,2,3
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCardResponse {
+    private Long userId;
+    private String username;
+    private String profileImageUrl;
+
+    private Long currentTitleId;        // null 가능
+    private String currentTitleName;    // null 가능
+    private String currentTitleIconEmoji; // null 가능
+}
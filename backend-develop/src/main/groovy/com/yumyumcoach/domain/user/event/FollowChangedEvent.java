@@ -0,0 +1,15 @@
+package com.yumyumcoach.domain.user.event;
+
+/**
+ * 팔로우 관계 변경 이벤트 (커밋 이후 이 인스턴스의 FollowGraph 에 즉시 반영).
+ * - 다른 인스턴스는 follow_changes 로그 폴링으로 반영
+ * - followeeId 가 null 이면 followerId 계정의 모든 관계 제거 (회원 탈퇴)
+ */
+public record FollowChangedEvent(Long followerId, String followerEmail,
+                                 Long followeeId, String followeeEmail,
+                                 boolean followed) {
+
+    public static FollowChangedEvent accountRemoved(Long accountId, String email) {
+        return new FollowChangedEvent(accountId, email, null, null, false);
+    }
+}
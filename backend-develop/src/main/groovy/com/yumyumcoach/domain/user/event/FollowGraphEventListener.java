@@ -0,0 +1,26 @@
+package com.yumyumcoach.domain.user.event;
+
+import com.yumyumcoach.domain.user.dto.FollowEdge;
+import com.yumyumcoach.domain.user.service.FollowGraph;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class FollowGraphEventListener {
+
+    private final FollowGraph followGraph;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        followGraph.apply(FollowEdge.builder()
+                .followerId(event.followerId())
+                .followerEmail(event.followerEmail())
+                .followeeId(event.followeeId())
+                .followeeEmail(event.followeeEmail())
+                .followed(event.followed())
+                .build());
+    }
+}
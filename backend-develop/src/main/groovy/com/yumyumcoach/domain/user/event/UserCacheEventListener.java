@@ -0,0 +1,43 @@
+package com.yumyumcoach.domain.user.event;
+
+import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.domain.user.service.UserAggregateCache;
+import com.yumyumcoach.domain.user.service.UserCardCache;
+import com.yumyumcoach.global.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사용자 변경 커밋 이후 집계/작성자 카드 캐시 제거 + 프로필 조건부 GET 버전 갱신.
+ * - "user:{userId}": 개별 프로필, "users": 전체 프로필
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEventListener {
+
+    private final UserAggregateCache userAggregateCache;
+    private final UserCardCache userCardCache;
+    private final ResourceVersions resourceVersions;
+    private final AccountMapper accountMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.email() == null) {
+            userAggregateCache.evictAll();
+            userCardCache.evictAll();
+            resourceVersions.touch(List.of("users"));
+            return;
+        }
+        userAggregateCache.evict(event.email());
+
+        Long userId = accountMapper.findIdByEmail(event.email());
+        if (userId != null) {
+            userCardCache.evict(userId);
+        }
+        resourceVersions.touch(List.of(userId != null ? "user:" + userId : "users"));
+    }
+}
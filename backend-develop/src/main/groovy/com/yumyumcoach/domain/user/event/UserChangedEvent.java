@@ -0,0 +1,12 @@
+package com.yumyumcoach.domain.user.event;
+
+/**
+ * 사용자 집계(기본/건강 정보, 대표 타이틀, 보유 타이틀, 팔로우 수)가 바뀌었음을 알리는 이벤트.
+ * - email 이 null 이면 전체 사용자 대상 (예: 회원 탈퇴로 여러 사용자의 팔로우 수가 함께 바뀜)
+ */
+public record UserChangedEvent(String email) {
+
+    public static UserChangedEvent allUsers() {
+        return new UserChangedEvent(null);
+    }
+}
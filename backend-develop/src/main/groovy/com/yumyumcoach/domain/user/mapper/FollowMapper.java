@@ -1,11 +1,13 @@
 package com.yumyumcoach.domain.user.mapper;
 
-import com.yumyumcoach.domain.user.dto.MyFollowersResponse;
-import com.yumyumcoach.domain.user.dto.MyFollowingsResponse;
+import com.yumyumcoach.domain.user.dto.FollowEdge;
+import com.yumyumcoach.domain.user.dto.FollowUserRow;
 import com.yumyumcoach.domain.user.entity.Follow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -31,22 +33,98 @@ public interface FollowMapper {
 
     /**
      * 팔로워 수 (나를 팔로우하는 사람 수)
+     * - profiles.follower_count 조회 (COUNT(*) 아님)
      */
     long countFollowers(@Param("email") String email);
 
     /**
      * 팔로잉 수 (내가 팔로우하는 사람 수)
+     * - profiles.following_count 조회 (COUNT(*) 아님)
      */
     long countFollowings(@Param("email") String email);
 
     /**
-     * 내가 팔로우하는 유저 목록
+     * 팔로우(+1) / 언팔로우(-1) 시 follower 의 팔로잉 수와 followee 의 팔로워 수를 함께 갱신
      */
-    List<MyFollowingsResponse.User> findMyFollowings(@Param("email") String email);
+    int applyFollowCountDelta(@Param("followerEmail") String followerEmail,
+                              @Param("followeeEmail") String followeeEmail,
+                              @Param("delta") int delta);
 
     /**
-     * 나를 팔로우하는 유저 목록
+     * 탈퇴 직전 호출: 탈퇴자가 팔로우하던 사용자들의 팔로워 수 차감
+     * - follows 는 accounts 삭제 시 CASCADE 로 지워지므로 삭제 전에 상대편 카운터를 맞춰둠
      */
-    List<MyFollowersResponse.User> findMyFollowers(@Param("email") String email);
-}
+    int releaseFollowerCountsOf(@Param("email") String email);
+
+    /**
+     * 탈퇴 직전 호출: 탈퇴자를 팔로우하던 사용자들의 팔로잉 수 차감
+     */
+    int releaseFollowingCountsOf(@Param("email") String email);
+
+    /**
+     * 카운터 보정용: email 순으로 afterEmail 다음 프로필 email 목록
+     */
+    List<String> findProfileEmailsAfter(@Param("afterEmail") String afterEmail,
+                                        @Param("limit") int limit);
+
+    /**
+     * 카운터 보정용: 주어진 프로필들의 카운터를 follows 실제 건수로 맞춤
+     * @return 보정된 행 수
+     */
+    int reconcileFollowCounts(@Param("emails") List<String> emails);
+
+    /**
+     * 내가 팔로우하는 유저 목록 한 페이지 (followed_at DESC, id DESC)
+     * - cursor 가 null 이면 첫 페이지
+     */
+    List<FollowUserRow> findFollowingsPage(@Param("email") String email,
+                                           @Param("cursorFollowedAt") LocalDateTime cursorFollowedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           @Param("limit") int limit);
+
+    /**
+     * 나를 팔로우하는 유저 목록 한 페이지 (followed_at DESC, id DESC)
+     * - cursor 가 null 이면 첫 페이지
+     */
+    List<FollowUserRow> findFollowersPage(@Param("email") String email,
+                                          @Param("cursorFollowedAt") LocalDateTime cursorFollowedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          @Param("limit") int limit);
+
+    /**
+     * candidates 중 email 을 팔로우하는 사람의 email 목록 (페이지 단위 맞팔 확인용)
+     */
+    List<String> findFollowersAmong(@Param("email") String email,
+                                    @Param("candidates") List<String> candidates);
+
+    /**
+     * candidates 중 email 이 팔로우하는 사람의 email 목록 (페이지 단위 맞팔 확인용)
+     */
+    List<String> findFolloweesAmong(@Param("email") String email,
+                                    @Param("candidates") List<String> candidates);
 
+    /**
+     * 메모리 팔로우 그래프 전체 적재용 스트리밍 조회 (전체 목록을 한 번에 들고 있지 않음)
+     */
+    void streamFollowEdges(ResultHandler<FollowEdge> handler);
+
+    /**
+     * 팔로우 그래프 변경 로그 기록
+     * @param followeeId null 이면 followerId 계정의 모든 관계 제거 (회원 탈퇴)
+     */
+    void insertFollowChange(@Param("followerId") Long followerId,
+                            @Param("followeeId") Long followeeId,
+                            @Param("followed") boolean followed);
+
+    /**
+     * 최근 windowSeconds 초 동안의 변경 로그 (id 순)
+     */
+    List<FollowEdge> findFollowChangesWithin(@Param("windowSeconds") int windowSeconds);
+
+    /**
+     * 보존 기간이 지난 변경 로그를 limit 건 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteFollowChangesOlderThan(@Param("retentionHours") int retentionHours,
+                                     @Param("limit") int limit);
+}
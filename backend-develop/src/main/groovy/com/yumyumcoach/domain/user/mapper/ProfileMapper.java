@@ -1,10 +1,14 @@
 package com.yumyumcoach.domain.user.mapper;
 
+import com.yumyumcoach.domain.user.dto.UserAggregate;
+import com.yumyumcoach.domain.user.dto.UserCardResponse;
 import com.yumyumcoach.domain.user.dto.UserProfileRow;
 import com.yumyumcoach.domain.user.entity.Profile;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface ProfileMapper {
 
@@ -44,6 +48,19 @@ public interface ProfileMapper {
      */
     UserProfileRow findUserProfileRow(@Param("userId") Long userId);
 
+    /**
+     * 사용자 집계 조회 (계정 + 프로필 + 대표 타이틀 + 팔로우 수 + 보유 타이틀 목록)
+     * - 단일 쿼리, 보유 타이틀은 collection 매핑으로 접어서 채움
+     * @return 계정 또는 프로필이 없으면 null
+     */
+    UserAggregate findUserAggregate(@Param("email") String email);
+
+    /**
+     * 작성자 카드 일괄 조회 (WHERE id IN)
+     * - 존재하지 않는 id 는 결과에서 빠짐
+     */
+    List<UserCardResponse> findUserCardsByIds(@Param("userIds") List<Long> userIds);
+
     /**
      * 내 몸무게 조회
      */
@@ -0,0 +1,45 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
+import com.yumyumcoach.domain.user.mapper.FollowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * profiles.follower_count / following_count 드리프트 보정 작업.
+ * - 카운터는 팔로우/언팔로우/탈퇴 트랜잭션에서 함께 갱신되지만, 수동 데이터 수정 등으로 어긋날 수 있어 매일 새벽 재계산
+ * - email 순 keyset 청크 단위로 처리해 한 번에 잠그는 행 수를 CHUNK_SIZE 로 제한
+ * - 청크마다 문장 하나가 곧 트랜잭션(auto-commit)이라 보정 중에도 팔로우 요청이 오래 대기하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class FollowCountReconciler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FollowMapper followMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileAll() {
+        int corrected = 0;
+        String afterEmail = null;
+
+        while (true) {
+            List<String> emails = followMapper.findProfileEmailsAfter(afterEmail, CHUNK_SIZE);
+            if (emails.isEmpty()) {
+                break;
+            }
+            corrected += followMapper.reconcileFollowCounts(emails);
+            afterEmail = emails.get(emails.size() - 1);
+        }
+
+        if (corrected > 0) {
+            eventPublisher.publishEvent(UserChangedEvent.allUsers());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.dto.FollowEdge;
+import com.yumyumcoach.domain.user.mapper.FollowMapper;
+import com.yumyumcoach.global.common.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 팔로우 그래프 (계정 id 기준 long 인접 집합).
+ * - 기동 시 follows 전체를 스트리밍으로 적재, 이후 팔로우/언팔로우/탈퇴를 반영
+ * - isFollowing / 맞팔 확인을 DB 조회 없이 O(1) 로 응답. 적재 전에는 DB 조회로 대체
+ *
+ * 인스턴스 간 동기화:
+ * - 쓰기 트랜잭션은 follows 변경과 함께 follow_changes 로그를 남김
+ * - 자기 인스턴스의 변경은 커밋 직후 이벤트로 즉시 반영, 다른 인스턴스의 변경은 로그 폴링으로 반영
+ * - 폴링은 최근 SYNC_WINDOW_SECONDS 구간을 매번 id 순으로 다시 적용 (상태 지정 연산이라 중복 적용해도 안전,
+ *   늦게 커밋된 로그를 놓치지 않음). 같은 관계의 변경은 follows PK 잠금으로 직렬화되므로 id 순서 = 커밋 순서
+ * - 폴링이 구간보다 오래 멈췄다면 누락 가능성이 있으므로 전체를 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    private static final int SYNC_WINDOW_SECONDS = 30;
+    private static final long SYNC_STALL_MILLIS = (SYNC_WINDOW_SECONDS - 5) * 1000L;
+    private static final int CHANGE_LOG_RETENTION_HOURS = 24;
+    private static final int CHANGE_LOG_PURGE_CHUNK = 1_000;
+
+    private final FollowMapper followMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, LongHashSet> followings = new HashMap<>();
+    private Map<Long, LongHashSet> followers = new HashMap<>();
+    private Map<String, Long> idsByEmail = new HashMap<>();
+
+    private volatile boolean ready;
+    private volatile long lastSyncedAtMillis;
+
+    /**
+     * follower 가 followee 를 팔로우하는지
+     */
+    public boolean isFollowing(String followerEmail, String followeeEmail) {
+        if (!ready) {
+            return followMapper.exists(followerEmail, followeeEmail);
+        }
+        lock.readLock().lock();
+        try {
+            return containsEdge(idsByEmail.get(followerEmail), idsByEmail.get(followeeEmail));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서로 팔로우하는지
+     */
+    public boolean isMutual(String emailA, String emailB) {
+        if (!ready) {
+            return followMapper.exists(emailA, emailB) && followMapper.exists(emailB, emailA);
+        }
+        lock.readLock().lock();
+        try {
+            Long a = idsByEmail.get(emailA);
+            Long b = idsByEmail.get(emailB);
+            return containsEdge(a, b) && containsEdge(b, a);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * candidates 중 email 을 팔로우하는 사람
+     */
+    public Set<String> followersAmong(String email, Collection<String> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        if (!ready) {
+            return new HashSet<>(followMapper.findFollowersAmong(email, List.copyOf(candidates)));
+        }
+        lock.readLock().lock();
+        try {
+            Long id = idsByEmail.get(email);
+            Set<String> result = new HashSet<>();
+            for (String candidate : candidates) {
+                if (containsEdge(idsByEmail.get(candidate), id)) {
+                    result.add(candidate);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * candidates 중 email 이 팔로우하는 사람
+     */
+    public Set<String> followeesAmong(String email, Collection<String> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        if (!ready) {
+            return new HashSet<>(followMapper.findFolloweesAmong(email, List.copyOf(candidates)));
+        }
+        lock.readLock().lock();
+        try {
+            Long id = idsByEmail.get(email);
+            Set<String> result = new HashSet<>();
+            for (String candidate : candidates) {
+                if (containsEdge(id, idsByEmail.get(candidate))) {
+                    result.add(candidate);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 1건 반영 (커밋 이후 이벤트 또는 로그 폴링에서 호출)
+     */
+    public void apply(FollowEdge edge) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(edge, followings, followers, idsByEmail);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 적재: 새 구조를 잠금 밖에서 만든 뒤 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, LongHashSet> newFollowings = new HashMap<>();
+        Map<Long, LongHashSet> newFollowers = new HashMap<>();
+        Map<String, Long> newIdsByEmail = new HashMap<>();
+
+        followMapper.streamFollowEdges(context ->
+                applyLocked(context.getResultObject(), newFollowings, newFollowers, newIdsByEmail));
+
+        lock.writeLock().lock();
+        try {
+            followings = newFollowings;
+            followers = newFollowers;
+            idsByEmail = newIdsByEmail;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 적재 도중의 변경은 다음 폴링 구간에 포함되어 다시 적용됨
+        lastSyncedAtMillis = startedAt;
+        ready = true;
+    }
+
+    @Scheduled(initialDelay = 2_000, fixedDelay = 2_000)
+    public void syncFromChangeLog() {
+        if (!ready) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        if (startedAt - lastSyncedAtMillis > SYNC_STALL_MILLIS) {
+            reload();
+            return;
+        }
+        List<FollowEdge> changes = followMapper.findFollowChangesWithin(SYNC_WINDOW_SECONDS);
+        if (!changes.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                for (FollowEdge change : changes) {
+                    applyLocked(change, followings, followers, idsByEmail);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        lastSyncedAtMillis = startedAt;
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeChangeLog() {
+        int deleted;
+        do {
+            deleted = followMapper.deleteFollowChangesOlderThan(CHANGE_LOG_RETENTION_HOURS, CHANGE_LOG_PURGE_CHUNK);
+        } while (deleted == CHANGE_LOG_PURGE_CHUNK);
+    }
+
+    private boolean containsEdge(Long followerId, Long followeeId) {
+        if (followerId == null || followeeId == null) {
+            return false;
+        }
+        LongHashSet set = followings.get(followerId);
+        return set != null && set.contains(followeeId);
+    }
+
+    private static void applyLocked(FollowEdge edge,
+                                    Map<Long, LongHashSet> followings,
+                                    Map<Long, LongHashSet> followers,
+                                    Map<String, Long> idsByEmail) {
+        long followerId = edge.getFollowerId();
+
+        if (edge.getFolloweeId() == null) {
+            removeAccount(followerId, edge.getFollowerEmail(), followings, followers, idsByEmail);
+            return;
+        }
+        long followeeId = edge.getFolloweeId();
+
+        if (edge.isFollowed()) {
+            // 로그 폴링 시점에 이미 탈퇴한 계정이면 이메일이 없음 -> 뒤따르는 탈퇴 로그가 정리하므로 건너뜀
+            if (edge.getFollowerEmail() == null || edge.getFolloweeEmail() == null) {
+                return;
+            }
+            idsByEmail.put(edge.getFollowerEmail(), followerId);
+            idsByEmail.put(edge.getFolloweeEmail(), followeeId);
+            followings.computeIfAbsent(followerId, k -> new LongHashSet()).add(followeeId);
+            followers.computeIfAbsent(followeeId, k -> new LongHashSet()).add(followerId);
+        } else {
+            removeEdge(followings, followerId, followeeId);
+            removeEdge(followers, followeeId, followerId);
+        }
+    }
+
+    private static void removeAccount(long accountId, String email,
+                                      Map<Long, LongHashSet> followings,
+                                      Map<Long, LongHashSet> followers,
+                                      Map<String, Long> idsByEmail) {
+        LongHashSet out = followings.remove(accountId);
+        if (out != null) {
+            for (long followeeId : out.toArray()) {
+                removeEdge(followers, followeeId, accountId);
+            }
+        }
+        LongHashSet in = followers.remove(accountId);
+        if (in != null) {
+            for (long followerId : in.toArray()) {
+                removeEdge(followings, followerId, accountId);
+            }
+        }
+        if (email != null) {
+            idsByEmail.remove(email, accountId);
+        } else {
+            idsByEmail.values().remove(accountId);
+        }
+    }
+
+    private static void removeEdge(Map<Long, LongHashSet> adjacency, long from, long to) {
+        LongHashSet set = adjacency.get(from);
+        if (set != null && set.remove(to) && set.isEmpty()) {
+            adjacency.remove(from);
+        }
+    }
+}
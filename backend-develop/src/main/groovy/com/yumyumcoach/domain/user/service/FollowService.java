@@ -3,39 +3,46 @@ package com.yumyumcoach.domain.user.service;
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
 import com.yumyumcoach.domain.user.dto.*;
 import com.yumyumcoach.domain.user.entity.Follow;
+import com.yumyumcoach.domain.user.event.FollowChangedEvent;
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
 import com.yumyumcoach.domain.user.mapper.FollowMapper;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FollowService {
+    private static final int MAX_FOLLOW_PAGE_SIZE = 50;
 
     private final AccountMapper accountMapper; // findEmailById 사용
     private final FollowMapper followMapper;
+    private final FollowGraph followGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 팔로우하기
      */
     @Transactional
-    public FollowUserResponse followUser(String myEmail, Long targetUserId) {
+    public FollowUserResponse followUser(Long myUserId, String myEmail, Long targetUserId) {
+
+        if (targetUserId.equals(myUserId)) {
+            throw new BusinessException(ErrorCode.FOLLOW_INVALID_REQUEST);
+        }
 
         String targetEmail = accountMapper.findEmailById(targetUserId);
         if (targetEmail == null) {
             throw new BusinessException(ErrorCode.FOLLOW_TARGET_NOT_FOUND);
         }
 
-        if (myEmail.equals(targetEmail)) {
-            throw new BusinessException(ErrorCode.FOLLOW_INVALID_REQUEST);
-        }
-
         if (followMapper.exists(myEmail, targetEmail)) {
             throw new BusinessException(ErrorCode.FOLLOW_ALREADY_EXISTS);
         }
@@ -47,6 +54,8 @@ public class FollowService {
                 .followeeEmail(targetEmail)
                 .followedAt(now)
                 .build());
+        followMapper.applyFollowCountDelta(myEmail, targetEmail, 1);
+        publishFollowChanged(myUserId, myEmail, targetEmail, targetUserId, true);
 
         return FollowUserResponse.builder()
                 .targetUserId(targetUserId)
@@ -59,21 +68,23 @@ public class FollowService {
      * 팔로우 취소
      */
     @Transactional
-    public UnfollowUserResponse unfollowUser(String myEmail, Long targetUserId) {
+    public UnfollowUserResponse unfollowUser(Long myUserId, String myEmail, Long targetUserId) {
+
+        if (targetUserId.equals(myUserId)) {
+            throw new BusinessException(ErrorCode.FOLLOW_INVALID_REQUEST);
+        }
 
         String targetEmail = accountMapper.findEmailById(targetUserId);
         if (targetEmail == null) {
             throw new BusinessException(ErrorCode.FOLLOW_TARGET_NOT_FOUND);
         }
 
-        if (myEmail.equals(targetEmail)) {
-            throw new BusinessException(ErrorCode.FOLLOW_INVALID_REQUEST);
-        }
-
         int deleted = followMapper.delete(myEmail, targetEmail);
         if (deleted == 0) {
             throw new BusinessException(ErrorCode.FOLLOW_NOT_FOUND);
         }
+        followMapper.applyFollowCountDelta(myEmail, targetEmail, -1);
+        publishFollowChanged(myUserId, myEmail, targetEmail, targetUserId, false);
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -86,28 +97,101 @@ public class FollowService {
 
     /**
      * 내가 팔로우하는 유저 목록
+     * - (followed_at, id) 커서 기반으로 한 페이지씩 조회
+     * - 맞팔 여부는 페이지에 포함된 사용자만 대상으로 메모리 팔로우 그래프에서 확인
      */
-    public MyFollowingsResponse getMyFollowings(String myEmail) {
+    public MyFollowingsResponse getMyFollowings(String myEmail, GetFollowsRequest request) {
         long total = followMapper.countFollowings(myEmail);
-        List<MyFollowingsResponse.User> users = followMapper.findMyFollowings(myEmail);
+
+        int size = clampPageSize(request.getSize());
+        List<FollowUserRow> rows = followMapper.findFollowingsPage(
+                myEmail, request.getCursorFollowedAt(), request.getCursorId(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        FollowUserRow last = hasNext ? rows.get(rows.size() - 1) : null;
+
+        Set<String> followingBack = followGraph.followersAmong(myEmail, emailsOf(rows));
+
+        List<MyFollowingsResponse.User> users = rows.stream()
+                .map(row -> MyFollowingsResponse.User.builder()
+                        .userId(row.getUserId())
+                        .username(row.getUsername())
+                        .profileImageUrl(row.getProfileImageUrl())
+                        .introduction(row.getIntroduction())
+                        .isFollowingBack(followingBack.contains(row.getEmail()))
+                        .build())
+                .toList();
 
         return MyFollowingsResponse.builder()
                 .totalCount(total)
                 .users(users)
+                .hasNext(hasNext)
+                .nextCursorFollowedAt(last == null ? null : last.getFollowedAt())
+                .nextCursorId(last == null ? null : last.getFollowId())
                 .build();
     }
 
     /**
      * 나를 팔로우하는 유저 목록
+     * - (followed_at, id) 커서 기반으로 한 페이지씩 조회
+     * - 내가 다시 팔로우하는지는 페이지에 포함된 사용자만 대상으로 메모리 팔로우 그래프에서 확인
      */
-    public MyFollowersResponse getMyFollowers(String myEmail) {
+    public MyFollowersResponse getMyFollowers(String myEmail, GetFollowsRequest request) {
         long total = followMapper.countFollowers(myEmail);
-        List<MyFollowersResponse.User> users = followMapper.findMyFollowers(myEmail);
+
+        int size = clampPageSize(request.getSize());
+        List<FollowUserRow> rows = followMapper.findFollowersPage(
+                myEmail, request.getCursorFollowedAt(), request.getCursorId(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        FollowUserRow last = hasNext ? rows.get(rows.size() - 1) : null;
+
+        Set<String> followedByMe = followGraph.followeesAmong(myEmail, emailsOf(rows));
+
+        List<MyFollowersResponse.User> users = rows.stream()
+                .map(row -> MyFollowersResponse.User.builder()
+                        .userId(row.getUserId())
+                        .username(row.getUsername())
+                        .profileImageUrl(row.getProfileImageUrl())
+                        .introduction(row.getIntroduction())
+                        .isFollowing(followedByMe.contains(row.getEmail()))
+                        .build())
+                .toList();
 
         return MyFollowersResponse.builder()
                 .totalCount(total)
                 .users(users)
+                .hasNext(hasNext)
+                .nextCursorFollowedAt(last == null ? null : last.getFollowedAt())
+                .nextCursorId(last == null ? null : last.getFollowId())
                 .build();
     }
-}
 
+    private static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_FOLLOW_PAGE_SIZE);
+    }
+
+    private static List<String> emailsOf(List<FollowUserRow> rows) {
+        return rows.stream().map(FollowUserRow::getEmail).toList();
+    }
+
+    /**
+     * 팔로우 관계 변경 후처리
+     * - 다른 인스턴스의 팔로우 그래프 동기화용 변경 로그 기록 (같은 트랜잭션)
+     * - 커밋 이후: 이 인스턴스의 팔로우 그래프 반영 + 양쪽 프로필 캐시 무효화 (팔로워/팔로잉 수)
+     */
+    private void publishFollowChanged(Long myUserId, String myEmail, String targetEmail, Long targetUserId,
+                                      boolean followed) {
+        followMapper.insertFollowChange(myUserId, targetUserId, followed);
+
+        eventPublisher.publishEvent(new FollowChangedEvent(myUserId, myEmail, targetUserId, targetEmail, followed));
+        eventPublisher.publishEvent(new UserChangedEvent(myEmail));
+        eventPublisher.publishEvent(new UserChangedEvent(targetEmail));
+    }
+}
@@ -0,0 +1,50 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.dto.UserAggregate;
+import com.yumyumcoach.global.cache.LocalCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 사용자 집계 캐시 (email 기준).
+ * - 마이페이지, 상대방 프로필, AI 파이프라인의 건강 정보 조회가 모두 이 캐시를 거침
+ * - 변경은 UserChangedEvent 로 커밋 직후 무효화, TTL 은 누락된 무효화에 대한 안전장치
+ * - userId -> email 매핑도 함께 캐시해서 상대방 프로필 조회 시 findEmailById 왕복도 없앰
+ */
+@Component
+public class UserAggregateCache {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final LocalCache<String, UserAggregate> aggregates = new LocalCache<>(MAX_SIZE, TTL);
+    private final LocalCache<Long, String> emailsById = new LocalCache<>(MAX_SIZE, TTL);
+
+    public UserAggregate getByEmail(String email, Function<String, UserAggregate> loader) {
+        return aggregates.get(email, loader);
+    }
+
+    /**
+     * userId 로 조회: id -> email 은 바뀌지 않는 값이라 별도로 캐시하고(탈퇴 시 전체 무효화) 집계는 email 캐시를 공유
+     */
+    public UserAggregate getById(Long userId,
+                                 Function<Long, String> emailResolver,
+                                 Function<String, UserAggregate> loader) {
+        String email = emailsById.get(userId, emailResolver);
+        if (email == null) {
+            return null;
+        }
+        return aggregates.get(email, loader);
+    }
+
+    public void evict(String email) {
+        aggregates.invalidate(email);
+    }
+
+    public void evictAll() {
+        aggregates.invalidateAll();
+        emailsById.invalidateAll();
+    }
+}
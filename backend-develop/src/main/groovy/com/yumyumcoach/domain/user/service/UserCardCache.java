@@ -0,0 +1,38 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.dto.UserCardResponse;
+import com.yumyumcoach.global.cache.LocalCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 작성자 카드 캐시 (userId 기준, 짧은 TTL).
+ * - 피드/댓글 화면마다 같은 작성자 카드가 반복 조회되므로 DB 왕복을 흡수하는 용도
+ * - 닉네임/프로필 이미지/대표 타이틀 변경은 UserChangedEvent 로 무효화
+ */
+@Component
+public class UserCardCache {
+
+    private static final int MAX_SIZE = 20_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final LocalCache<Long, UserCardResponse> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    public Map<Long, UserCardResponse> getAll(Collection<Long> userIds,
+                                              Function<List<Long>, Map<Long, UserCardResponse>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
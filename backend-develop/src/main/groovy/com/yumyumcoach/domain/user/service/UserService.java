@@ -2,14 +2,17 @@ package com.yumyumcoach.domain.user.service;
 
 import com.yumyumcoach.domain.auth.entity.Account;
 import com.yumyumcoach.domain.auth.mapper.AccountMapper;
-import com.yumyumcoach.domain.title.dto.MyTitleItemResponse;
+import com.yumyumcoach.domain.auth.service.AccountAvailabilityFilter;
+import com.yumyumcoach.domain.community.event.PostChangedEvent;
 import com.yumyumcoach.domain.title.dto.MyTitleResponse;
 import com.yumyumcoach.domain.user.dto.MyPageResponse;
 import com.yumyumcoach.domain.user.dto.UpdateMyBasicInfoRequest;
 import com.yumyumcoach.domain.user.dto.UpdateMyHealthInfoRequest;
+import com.yumyumcoach.domain.user.dto.UserAggregate;
+import com.yumyumcoach.domain.user.dto.UserCardResponse;
 import com.yumyumcoach.domain.user.dto.UserProfileResponse;
+import com.yumyumcoach.domain.user.event.UserChangedEvent;
 import com.yumyumcoach.domain.user.entity.Profile;
-import com.yumyumcoach.domain.user.mapper.FollowMapper;
 import com.yumyumcoach.domain.user.mapper.ProfileMapper;
 import com.yumyumcoach.domain.title.mapper.TitleMapper;
 import com.yumyumcoach.global.common.CdnUrlResolver;
@@ -17,77 +20,64 @@ import com.yumyumcoach.global.common.CredentialValidator;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
+    private static final int MAX_USER_CARDS = 100;
+
     private final AccountMapper accountMapper;
     private final ProfileMapper profileMapper;
-    private final FollowMapper followMapper;
+    private final FollowGraph followGraph;
     private final TitleMapper titleMapper;
     private final CdnUrlResolver cdnUrlResolver;
+    private final UserAggregateCache userAggregateCache;
+    private final UserCardCache userCardCache;
+    private final AccountAvailabilityFilter accountAvailabilityFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MyPageResponse getMyPage(String email) {
 
-        Account account = accountMapper.findByEmail(email);
-        if (account == null) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
-        }
-        Long userId = accountMapper.findIdByEmail(email);
-
-        Profile profile = profileMapper.findByEmail(email);
-        if (profile == null) {
-            throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
-        }
-
-        long followers = followMapper.countFollowers(email);
-        long followings = followMapper.countFollowings(email);
-
-        MyTitleResponse current = titleMapper.findCurrentTitle(email);
-
-        Long currentTitleId = null;
-        String currentTitleName = null;
-
-        if (current != null) {
-            currentTitleId = current.getCurrentTitleId();
-            currentTitleName = current.getCurrentTitleName();
-        }
-        List<MyTitleItemResponse> myTitles = titleMapper.findMyTitles(email);
+        UserAggregate user = loadAggregateByEmail(email);
 
         return MyPageResponse.builder()
                 .basic(MyPageResponse.Basic.builder()
-                        .userId(userId)
+                        .userId(user.getUserId())
                         .email(email)
-                        .username(account.getUsername())
-                        .profileImageUrl(cdnUrlResolver.resolve(profile.getProfileImageUrl()))
-                        .introduction(profile.getIntroduction())
+                        .username(user.getUsername())
+                        .profileImageUrl(cdnUrlResolver.resolve(user.getProfileImageUrl()))
+                        .introduction(user.getIntroduction())
                         .build())
                 .health(MyPageResponse.Health.builder()
-                        .birthDate(profile.getBirthDate())
-                        .height(profile.getHeight())
-                        .weight(profile.getCurrentWeight())
-                        .goalWeight(profile.getTargetWeight())
-                        .hasDiabetes(profile.getHasDiabetes())
-                        .hasHypertension(profile.getHasHypertension())
-                        .hasHyperlipidemia(profile.getHasHyperlipidemia())
-                        .otherDisease(profile.getOtherDisease())
-                        .goal(profile.getGoal())
-                        .activityLevel(profile.getActivityLevel())
+                        .birthDate(user.getBirthDate())
+                        .height(user.getHeight())
+                        .weight(user.getCurrentWeight())
+                        .goalWeight(user.getTargetWeight())
+                        .hasDiabetes(user.getHasDiabetes())
+                        .hasHypertension(user.getHasHypertension())
+                        .hasHyperlipidemia(user.getHasHyperlipidemia())
+                        .otherDisease(user.getOtherDisease())
+                        .goal(user.getGoal())
+                        .activityLevel(user.getActivityLevel())
                         .build())
                 .badges(MyPageResponse.Badges.builder()
-                        .currentTitleId(currentTitleId)
-                        .currentTitleName(currentTitleName)
-                        .titles(myTitles)
+                        .currentTitleId(user.getCurrentTitleId())
+                        .currentTitleName(user.getCurrentTitleName())
+                        .titles(user.getTitles())
                         .build())
                 .follow(MyPageResponse.Follow.builder()
-                        .followersCount(followers)
-                        .followingsCount(followings)
+                        .followersCount(user.getFollowersCount())
+                        .followingsCount(user.getFollowingsCount())
                         .build())
                 .build();
     }
@@ -109,6 +99,7 @@ public class UserService {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
+        String username = account.getUsername();
         if (req.getUsername() != null) {
             String newUsername = req.getUsername().trim();
             CredentialValidator.validateUsername(newUsername);
@@ -121,6 +112,8 @@ public class UserService {
             }
 
             accountMapper.updateUsername(email, newUsername);
+            accountAvailabilityFilter.addUsername(newUsername);
+            username = newUsername;
         }
 
         boolean needProfileUpdate =
@@ -136,13 +129,17 @@ public class UserService {
         }
 
         Profile updatedProfile = profileMapper.findByEmail(email);
-        Long userId = accountMapper.findIdByEmail(email);
-        Account updatedAccount = accountMapper.findByEmail(email);
+
+        eventPublisher.publishEvent(new UserChangedEvent(email));
+        // 게시글/댓글의 작성자 카드(닉네임, 프로필 이미지)도 함께 바뀜
+        if (req.getUsername() != null || req.getProfileImageUrl() != null) {
+            eventPublisher.publishEvent(PostChangedEvent.allPosts());
+        }
 
         return MyPageResponse.Basic.builder()
-                .userId(userId)
+                .userId(account.getId())
                 .email(email)
-                .username(updatedAccount.getUsername())
+                .username(username)
                 .profileImageUrl(cdnUrlResolver.resolve(updatedProfile.getProfileImageUrl()))
                 .introduction(updatedProfile.getIntroduction())
                 .build();
@@ -174,6 +171,7 @@ public class UserService {
                 .build();
 
         profileMapper.updateHealth(patch);
+        eventPublisher.publishEvent(new UserChangedEvent(email));
 
         Profile updated = profileMapper.findByEmail(email);
 
@@ -199,6 +197,7 @@ public class UserService {
             if (updated == 0) {
                 throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
             }
+            publishProfileChanged(email);
             // 해제면 current null 내려주게
             return MyTitleResponse.builder()
                     .currentTitleId(null)
@@ -216,61 +215,92 @@ public class UserService {
         if (updated == 0) {
             throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
         }
+        publishProfileChanged(email);
 
         return titleMapper.findCurrentTitle(email);
     }
 
     public UserProfileResponse getUserProfile(String viewerEmail, Long userId) {
 
-        // 1) userId -> targetEmail
-        String targetEmail = accountMapper.findEmailById(userId);
-        if (targetEmail == null) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
-        }
-
-        // 2) 계정 / 프로필 조회
-        Account targetAccount = accountMapper.findByEmail(targetEmail);
-        if (targetAccount == null) {
+        // 1) 계정 / 프로필 / 팔로우 수 / 타이틀 (캐시 또는 단일 조회)
+        UserAggregate target = userAggregateCache.getById(
+                userId, accountMapper::findEmailById, profileMapper::findUserAggregate);
+        if (target == null) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
-        Profile targetProfile = profileMapper.findByEmail(targetEmail);
-        if (targetProfile == null) {
-            throw new BusinessException(ErrorCode.PROFILE_NOT_FOUND);
-        }
-
-        // 3) 팔로우 요약 + isFollowing
-        long followers = followMapper.countFollowers(targetEmail);
-        long followings = followMapper.countFollowings(targetEmail);
-
+        // 2) isFollowing (조회자별 값이라 캐시하지 않고 메모리 팔로우 그래프에서 확인)
         boolean isFollowing = false;
-        if (viewerEmail != null && !viewerEmail.equals(targetEmail)) {
-            isFollowing = followMapper.exists(viewerEmail, targetEmail);
+        if (viewerEmail != null && !viewerEmail.equals(target.getEmail())) {
+            isFollowing = followGraph.isFollowing(viewerEmail, target.getEmail());
         }
 
-        // 4) 대표 타이틀(없을 수 있음) + 보유 타이틀 목록
-        MyTitleResponse current = titleMapper.findCurrentTitle(targetEmail); // null 가능
-        List<MyTitleItemResponse> titles = titleMapper.findMyTitles(targetEmail);
-
-        // 5) 응답 조립 (email 없이)
+        // 3) 응답 조립 (email 없이)
         return UserProfileResponse.builder()
                 .basic(UserProfileResponse.Basic.builder()
                         .userId(userId)
-                        .username(targetAccount.getUsername())
-                        .profileImageUrl(cdnUrlResolver.resolve(targetProfile.getProfileImageUrl()))
-                        .introduction(targetProfile.getIntroduction())
+                        .username(target.getUsername())
+                        .profileImageUrl(cdnUrlResolver.resolve(target.getProfileImageUrl()))
+                        .introduction(target.getIntroduction())
                         .build())
                 .follow(UserProfileResponse.Follow.builder()
-                        .followersCount(followers)
-                        .followingsCount(followings)
+                        .followersCount(target.getFollowersCount())
+                        .followingsCount(target.getFollowingsCount())
                         .isFollowing(isFollowing)
                         .build())
                 .badges(UserProfileResponse.Badges.builder()
-                        .currentTitleId(current != null ? current.getCurrentTitleId() : null)
-                        .currentTitleName(current != null ? current.getCurrentTitleName() : null)
-                        .currentIconEmoji(current != null ? current.getCurrentTitleEmoji() : null)
-                        .titles(titles)
+                        .currentTitleId(target.getCurrentTitleId())
+                        .currentTitleName(target.getCurrentTitleName())
+                        .currentIconEmoji(target.getCurrentTitleIconEmoji())
+                        .titles(target.getTitles())
                         .build())
                 .build();
     }
+
+    /**
+     * 작성자 카드 일괄 조회
+     * - 캐시에 없는 id 만 모아서 WHERE id IN 한 번으로 조회
+     * - 요청 순서대로 반환, 존재하지 않는 id 는 빠짐
+     */
+    public List<UserCardResponse> getUserCards(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinctIds = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > MAX_USER_CARDS) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "한 번에 조회할 수 있는 사용자는 최대 " + MAX_USER_CARDS + "명입니다.");
+        }
+
+        Map<Long, UserCardResponse> cards = userCardCache.getAll(distinctIds, this::loadUserCards);
+
+        return distinctIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, UserCardResponse> loadUserCards(List<Long> userIds) {
+        return profileMapper.findUserCardsByIds(userIds).stream()
+                .collect(Collectors.toMap(
+                        UserCardResponse::getUserId,
+                        card -> card.toBuilder()
+                                .profileImageUrl(cdnUrlResolver.resolve(card.getProfileImageUrl()))
+                                .build()));
+    }
+
+    /**
+     * 사용자 집계 조회 (캐시 우선)
+     * - 계정 또는 프로필이 없으면 예외
+     */
+    private UserAggregate loadAggregateByEmail(String email) {
+        UserAggregate user = userAggregateCache.getByEmail(email, profileMapper::findUserAggregate);
+        if (user == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return user;
+    }
+
+    private void publishProfileChanged(String email) {
+        eventPublisher.publishEvent(new UserChangedEvent(email));
+    }
 }
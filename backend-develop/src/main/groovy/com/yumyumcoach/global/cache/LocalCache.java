@@ -0,0 +1,147 @@
+package com.yumyumcoach.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 프로세스 내 로컬 캐시 (크기 + TTL 제한).
+ * - 항목 수가 maxSize 를 넘으면 만료된 항목을 먼저 정리하고, 그래도 넘치면 만료가 가장 임박한 항목부터 제거
+ * - get(key, loader) / getAll(keys, loader): read-through. 로딩 도중 invalidate 가 발생하면 로딩 결과를 캐시에 넣지 않음
+ *   (커밋 직후 무효화와 동시에 진행되던 조회가 오래된 값을 다시 올려두는 것을 방지)
+ * - null 값은 캐시하지 않음
+ */
+public class LocalCache<K, V> {
+
+    private final Map<K, Entry<V>> store = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        V loaded = loader.apply(key);
+        if (loaded != null && invalidations.get() == invalidationsBefore) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 키 일괄 조회: 캐시에 없는 키만 모아서 loader 를 한 번 호출 (set 기반 조회용)
+     * - 결과에는 값이 있는 키만 담김, 순서는 보장하지 않음
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            V cached = get(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Map<K, V> loaded = loader.apply(missing);
+        boolean cacheable = invalidations.get() == invalidationsBefore;
+        loaded.forEach((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            result.put(key, value);
+            if (cacheable) {
+                put(key, value);
+            }
+        });
+        return result;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 항목별 만료 시각 지정 (기본 TTL 보다 먼저 만료되어야 하는 값용)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (value == null) {
+            return;
+        }
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        if (store.size() >= maxSize && !store.containsKey(key)) {
+            evict();
+        }
+        store.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        store.remove(key);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        store.clear();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        store.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        if (store.size() < maxSize) {
+            return;
+        }
+
+        // 한 번에 10% 정도를 비워서 가득 찬 상태에서 매 put 마다 전체를 훑지 않도록 함
+        int toRemove = Math.max(1, maxSize / 10);
+        store.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(store::remove);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.yumyumcoach.global.common;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * 인증된 사용자 (SecurityContext principal).
+ * - access token 의 불변 클레임(계정 id, 이메일)만 담음
+ * - 닉네임처럼 바뀔 수 있는 값은 넣지 않음 (토큰이 살아있는 동안 오래된 값이 남지 않도록)
+ * - getName() 은 이메일을 반환하므로 Principal.getName() 으로 이메일을 꺼내던 코드도 그대로 동작
+ */
+public record AuthUser(Long accountId, String email) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
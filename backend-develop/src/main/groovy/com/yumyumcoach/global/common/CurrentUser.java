@@ -8,11 +8,27 @@ import org.springframework.security.core.context.SecurityContextHolder;
 public class CurrentUser {
     private CurrentUser() {}
 
-    public static String email() {
+    public static AuthUser get() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
             throw new BusinessException(ErrorCode.AUTH_UNAUTHORIZED);
         }
-        return (String) auth.getPrincipal();
+        if (auth.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        return new AuthUser(null, (String) auth.getPrincipal());
+    }
+
+    public static String email() {
+        return get().email();
+    }
+
+    // 토큰에 담긴 계정 id (accounts 재조회 없이 사용)
+    public static Long accountId() {
+        Long accountId = get().accountId();
+        if (accountId == null) {
+            throw new BusinessException(ErrorCode.AUTH_UNAUTHORIZED);
+        }
+        return accountId;
     }
 }
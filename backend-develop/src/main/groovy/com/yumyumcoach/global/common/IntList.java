@@ -0,0 +1,42 @@
+package com.yumyumcoach.global.common;
+
+import java.util.Arrays;
+
+/**
+ * int 원시값 전용 가변 길이 목록.
+ * - List<Integer> 대비 원소당 박싱 객체가 없어 역색인 posting list 처럼 원소가 많은 목록에 사용
+ * - 동기화하지 않음: 여러 스레드가 공유하면 호출 측에서 잠금 필요
+ */
+public class IntList {
+
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this.values = new int[MIN_CAPACITY];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.yumyumcoach.global.common;
+
+import java.util.Arrays;
+
+/**
+ * long 원시값 전용 해시 집합 (open addressing + linear probing).
+ * - Set<Long> 대비 원소당 박싱 객체/엔트리 객체가 없어 메모리와 GC 부담이 작음
+ * - 0 은 빈 슬롯 표시로 사용하므로 양수 id 만 저장 가능
+ * - 동기화하지 않음: 여러 스레드가 공유하면 호출 측에서 잠금 필요
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int size;
+
+    public LongHashSet() {
+        this.table = new long[MIN_CAPACITY];
+    }
+
+    public boolean contains(long value) {
+        checkValue(value);
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == 0) {
+                return false;
+            }
+            if (slot == value) {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(long value) {
+        checkValue(value);
+        if (size + 1 > table.length * LOAD_FACTOR) {
+            rehash(table.length * 2);
+        }
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == value) {
+                return false;
+            }
+            if (slot == 0) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    public boolean remove(long value) {
+        checkValue(value);
+        int mask = table.length - 1;
+        int i = mix(value) & mask;
+        while (true) {
+            long slot = table[i];
+            if (slot == 0) {
+                return false;
+            }
+            if (slot == value) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // 삭제 위치 뒤의 같은 클러스터 원소를 당겨서 탐색 경로가 끊기지 않게 함 (tombstone 없음)
+        int gap = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            long slot = table[j];
+            if (slot == 0) {
+                break;
+            }
+            int home = mix(slot) & mask;
+            boolean movable = (j > gap) ? (home <= gap || home > j) : (home <= gap && home > j);
+            if (movable) {
+                table[gap] = slot;
+                gap = j;
+            }
+        }
+        table[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] values = new long[size];
+        int n = 0;
+        for (long slot : table) {
+            if (slot != 0) {
+                values[n++] = slot;
+            }
+        }
+        return values;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        size = 0;
+        for (long slot : old) {
+            if (slot != 0) {
+                add(slot);
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void checkValue(long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("0 은 저장할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -2,7 +2,7 @@ package com.yumyumcoach.global.config;
 
 import com.yumyumcoach.global.jwt.DevAuthenticationFilter;
 import com.yumyumcoach.global.jwt.JwtAuthenticationFilter;
-import com.yumyumcoach.global.jwt.JwtTokenProvider;
+import com.yumyumcoach.global.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -30,13 +30,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver
     ) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, resolver);
+        return new JwtAuthenticationFilter(verifiedTokenCache, resolver);
     }
 
     @Bean
@@ -23,6 +23,8 @@ public enum ErrorCode {
     AUTH_EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
     AUTH_USERNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
     AUTH_ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "계정을 찾을 수 없습니다."),
+    AUTH_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "인증 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // ===== USER =====
     PROFILE_NOT_FOUND(HttpStatus.NOT_FOUND, "프로필 정보를 찾을 수 없습니다."),
@@ -61,6 +63,8 @@ public enum ErrorCode {
     FOOD_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 음식을 찾을 수 없습니다."),
     DIET_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 식단을 찾을 수 없습니다."),
     DIET_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 식단에 대한 권한이 없습니다."),
+    DIET_IMPORT_INVALID(HttpStatus.BAD_REQUEST, "가져올 식단 데이터가 올바르지 않습니다."),
+    DIET_IMPORT_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "한 번에 가져올 수 있는 식단 수를 초과했습니다."),
 
     // ===== EXERCISE =====
     EXERCISE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 운동을 찾을 수 없습니다."),
@@ -1,9 +1,12 @@
 package com.yumyumcoach.global.jwt;
 
+import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.global.common.AuthUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,8 +18,11 @@ import java.util.Collections;
 
 @Profile("dev")
 @Component
+@RequiredArgsConstructor
 public class DevAuthenticationFilter extends OncePerRequestFilter {
 
+    private final AccountMapper accountMapper;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -32,7 +38,7 @@ public class DevAuthenticationFilter extends OncePerRequestFilter {
         String devEmail = request.getHeader("X-DEV-EMAIL");
         if (devEmail != null && !devEmail.isBlank()) {
             var auth = new UsernamePasswordAuthenticationToken(
-                    devEmail,
+                    new AuthUser(accountMapper.findIdByEmail(devEmail), devEmail),
                     null,
                     Collections.emptyList()
             );
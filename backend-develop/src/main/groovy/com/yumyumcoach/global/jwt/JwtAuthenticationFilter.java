@@ -1,5 +1,6 @@
 package com.yumyumcoach.global.jwt;
 
+import com.yumyumcoach.global.common.AuthUser;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -27,7 +28,7 @@ import java.util.Collections;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private final HandlerExceptionResolver resolver;
 
@@ -69,15 +70,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
             
-            // 토큰 검증
-            jwtTokenProvider.validateToken(token);
-
-            // 토큰에서 이메일 추출
-            String email = jwtTokenProvider.getEmail(token);
+            // 토큰 검증 + 클레임 추출 (검증된 토큰은 캐시에서 바로 꺼냄)
+            TokenClaims claims = verifiedTokenCache.verify(token);
+            AuthUser authUser = new AuthUser(claims.accountId(), claims.email());
 
             // SecurityContext 에 인증 정보 세팅
             UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
+                    new UsernamePasswordAuthenticationToken(authUser, null, Collections.emptyList());
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
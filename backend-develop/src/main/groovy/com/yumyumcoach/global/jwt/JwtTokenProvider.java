@@ -1,5 +1,7 @@
 package com.yumyumcoach.global.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,8 +23,12 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
     private static final String TOKEN_TYPE = "Bearer";
+    // access token 에 담는 계정 id 클레임 (불변 값만 담음)
+    private static final String CLAIM_ACCOUNT_ID = "uid";
 
     private final SecretKey key;
+    // 파서는 불변 + thread-safe 이므로 한 번만 만들어 재사용
+    private final JwtParser parser;
     private final Duration accessTokenExpiration;
     private final Duration refreshTokenExpiration;
 
@@ -32,37 +38,45 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-expire-time}") Duration refreshExpiration
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
         this.accessTokenExpiration = accessExpiration;
         this.refreshTokenExpiration = refreshExpiration;
     }
 
-    public String createAccessToken(String email) {
-        return createToken(email, accessTokenExpiration);
+    public String createAccessToken(Long accountId, String email) {
+        return createToken(accountId, email, accessTokenExpiration);
     }
 
-    public String createRefreshToken(String email) {
-        return createToken(email, refreshTokenExpiration);
+    public String createRefreshToken(Long accountId, String email) {
+        return createToken(accountId, email, refreshTokenExpiration);
     }
 
     // 토큰 유효성 검사(예외는 전역 예외처리에서 처리)
     public boolean validateToken(String token) {
-        Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+        parser.parseSignedClaims(token);
         return true;
     }
 
     // 토큰에서 이메일 추출
     public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
+    // 서명 검증 + 클레임 추출을 한 번에 수행
+    public TokenClaims parseClaims(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Number accountId = claims.get(CLAIM_ACCOUNT_ID, Number.class);
+        return new TokenClaims(
+                accountId == null ? null : accountId.longValue(),
+                claims.getSubject(),
+                claims.getExpiration().getTime()
+        );
+    }
+
     public String getTokenType() {
         return TOKEN_TYPE;
     }
@@ -76,12 +90,13 @@ public class JwtTokenProvider {
     }
 
     // 토큰 생성 공통 메서드
-    private String createToken(String email, Duration expireTime) {
+    private String createToken(Long accountId, String email, Duration expireTime) {
         Date now = new Date();
         Date expiration = Date.from(Instant.now().plus(expireTime));
 
         return Jwts.builder()
                 .subject(email)
+                .claim(CLAIM_ACCOUNT_ID, accountId)
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(key)
@@ -0,0 +1,17 @@
+package com.yumyumcoach.global.jwt;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 클레임.
+ * - accountId: uid 클레임 (이 클레임이 없던 시절 발급된 토큰은 null)
+ * - expiresAtMillis: exp 클레임 (검증 캐시 만료 시각으로 사용)
+ */
+public record TokenClaims(Long accountId, String email, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public TokenClaims withAccountId(Long accountId) {
+        return new TokenClaims(accountId, email, expiresAtMillis);
+    }
+}
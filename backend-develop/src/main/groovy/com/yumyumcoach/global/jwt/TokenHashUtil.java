@@ -9,6 +9,7 @@ import lombok.SneakyThrows;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 /*
 refresh token 을 SHA-256 알고리즘 + 16진법 변환 방식을 이용하여 해시(hex) 로 변환
@@ -29,12 +30,7 @@ public final class TokenHashUtil {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
 
-        StringBuilder sb = new StringBuilder(hashed.length * 2);
-        for (byte b : hashed) {
-            sb.append(String.format("%02x", b));
-        }
-
-        return sb.toString();
+        return HexFormat.of().formatHex(hashed);
     }
 
 }
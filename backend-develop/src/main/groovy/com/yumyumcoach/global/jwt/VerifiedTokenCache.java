@@ -0,0 +1,47 @@
+package com.yumyumcoach.global.jwt;
+
+import com.yumyumcoach.domain.auth.mapper.AccountMapper;
+import com.yumyumcoach.global.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 검증이 끝난 access token 캐시.
+ * - 키는 토큰 원문이 아니라 SHA-256 digest (원문을 메모리에 쌓아두지 않음)
+ * - 항목은 토큰의 exp 시각에 만료되므로 만료된 토큰이 캐시로 통과되는 일은 없음
+ * - 캐시에 없으면 JwtTokenProvider 로 서명 검증 + 파싱을 한 번만 수행
+ * - uid 클레임 없이 발급된 이전 토큰은 계정 id 를 한 번만 조회해 함께 캐시 (토큰 만료 후 재발급되면 조회 불필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final int MAX_SIZE = 20_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccountMapper accountMapper;
+
+    private final LocalCache<String, TokenClaims> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    /**
+     * 토큰 검증 후 클레임 반환 (검증 실패 시 jjwt 예외를 그대로 던짐)
+     */
+    public TokenClaims verify(String token) {
+        String digest = TokenHashUtil.sha256Hex(token);
+
+        TokenClaims cached = cache.get(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        TokenClaims claims = jwtTokenProvider.parseClaims(token);
+        if (claims.accountId() == null) {
+            claims = claims.withAccountId(accountMapper.findIdByEmail(claims.email()));
+        }
+        cache.put(digest, claims, claims.expiresAtMillis());
+        return claims;
+    }
+}
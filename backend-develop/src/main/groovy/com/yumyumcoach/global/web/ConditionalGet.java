@@ -0,0 +1,22 @@
+package com.yumyumcoach.global.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 대상 엔드포인트 표시.
+ * - keys: 응답 내용이 의존하는 리소스 버전 키 목록
+ *   "{변수}" 는 URI 템플릿 변수로, "{viewer}" 는 현재 로그인 사용자로 치환 (예: "post:{postId}")
+ * - perViewer: 응답에 조회자별 필드(좋아요 여부, 팔로우 여부, 참여 현황 등)가 섞여 있으면 true
+ *   -> ETag 에 조회자를 포함하고 Cache-Control: private 로 공유 캐시 저장을 막음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    String[] keys();
+
+    boolean perViewer() default false;
+}
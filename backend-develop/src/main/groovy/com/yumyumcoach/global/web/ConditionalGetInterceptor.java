@@ -0,0 +1,119 @@
+package com.yumyumcoach.global.web;
+
+import com.yumyumcoach.global.common.AuthUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @ConditionalGet 이 붙은 GET 요청에 대해 컨트롤러 실행 전에 ETag / Last-Modified 를 검사.
+ * - 리소스 버전만으로 검증값을 만들기 때문에 304 응답 시 DB 조회와 DTO 생성, 직렬화를 모두 건너뜀
+ * - ETag = hash(요청 경로 + 쿼리 + 키별 버전 + (perViewer 면) 조회자)
+ * - Last-Modified = 키 버전 중 최댓값
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final Pattern TEMPLATE_VARIABLE = Pattern.compile("\\{([^}]+)}");
+    private static final String VIEWER_VARIABLE = "viewer";
+    private static final String ANONYMOUS = "anonymous";
+
+    private final ResourceVersions resourceVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        String viewer = currentViewer();
+        Map<String, String> uriVariables = uriVariables(request);
+
+        long lastModified = 0L;
+        StringBuilder source = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            source.append('?').append(request.getQueryString());
+        }
+        for (String template : conditionalGet.keys()) {
+            String key = resolveKey(template, uriVariables, viewer);
+            long version = resourceVersions.get(key);
+            lastModified = Math.max(lastModified, version);
+            source.append('|').append(key).append('=').append(version);
+        }
+        if (conditionalGet.perViewer()) {
+            source.append('|').append(VIEWER_VARIABLE).append('=').append(viewer);
+        }
+
+        // 직접 지정하지 않으면 Spring Security 기본값(no-store)이 붙어서 브라우저가 응답을 저장하지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, conditionalGet.perViewer() ? "private, no-cache" : "no-cache");
+
+        // 일치하면 304 상태가 설정되고 ETag/Last-Modified 헤더는 어느 쪽이든 응답에 실림
+        return !new ServletWebRequest(request, response).checkNotModified(etag(source), lastModified);
+    }
+
+    private static String resolveKey(String template, Map<String, String> uriVariables, String viewer) {
+        Matcher matcher = TEMPLATE_VARIABLE.matcher(template);
+        StringBuilder key = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String value = VIEWER_VARIABLE.equals(name) ? viewer : uriVariables.getOrDefault(name, "");
+            matcher.appendReplacement(key, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(key);
+        return key.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> uriVariables(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return attribute instanceof Map ? (Map<String, String>) attribute : Collections.emptyMap();
+    }
+
+    private static String currentViewer() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
+            return ANONYMOUS;
+        }
+        if (auth.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.email();
+        }
+        return String.valueOf(auth.getPrincipal());
+    }
+
+    private static String etag(CharSequence source) {
+        try {
+            byte[] hashed = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hashed, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.yumyumcoach.global.web;
+
+import java.util.List;
+
+/**
+ * 조건부 GET 용 리소스 버전 갱신 이벤트.
+ * - 트랜잭션 커밋 이후에 버전이 올라가야 하므로 서비스에서는 직접 갱신하지 않고 이 이벤트를 발행
+ */
+public record ResourceChangedEvent(List<String> keys) {
+
+    public static ResourceChangedEvent of(String... keys) {
+        return new ResourceChangedEvent(List.of(keys));
+    }
+}
@@ -0,0 +1,44 @@
+package com.yumyumcoach.global.web;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리소스 키별 버전(마지막 변경 시각) 저장소.
+ * - 한 번도 바뀌지 않은 키는 서버 기동 시각을 버전으로 사용 (재기동하면 모든 ETag 가 한 번 갱신됨)
+ * - 버전은 초 단위로 단조 증가: Last-Modified 가 초 단위라서 같은 초에 두 번 바뀌면 다음 초로 밀어서 구분
+ * - 변경 이벤트는 커밋 이후에 반영: 커밋 전에 버전을 올리면 커밋 전 데이터로 만든 응답이 새 ETag 로 캐시될 수 있음
+ * - 프로세스 메모리에만 있는 값이므로 단일 인스턴스 기준 (다중 인스턴스라면 공유 저장소로 옮겨야 함)
+ */
+@Component
+public class ResourceVersions {
+
+    private final long bootMillis = toSecondMillis(System.currentTimeMillis());
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public long get(String key) {
+        return versions.getOrDefault(key, bootMillis);
+    }
+
+    public void touch(Collection<String> keys) {
+        long now = toSecondMillis(System.currentTimeMillis());
+        for (String key : keys) {
+            versions.merge(key, Math.max(now, bootMillis + 1000),
+                    (prev, next) -> Math.max(next, prev + 1000));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        touch(event.keys());
+    }
+
+    private static long toSecondMillis(long millis) {
+        return millis - (millis % 1000);
+    }
+}
@@ -0,0 +1,77 @@
+package com.yumyumcoach.domain.auth.service
+
+import com.yumyumcoach.domain.auth.entity.Account
+import com.yumyumcoach.domain.auth.mapper.AccountMapper
+import org.apache.ibatis.session.ResultContext
+import org.apache.ibatis.session.ResultHandler
+import org.junit.jupiter.api.Test
+
+class AccountAvailabilityFilterTests {
+
+    private static AccountAvailabilityFilter filterOf(List<Account> accounts) {
+        AccountMapper mapper = [
+                countAccounts           : { -> (long) accounts.size() },
+                streamEmailsAndUsernames: { ResultHandler<Account> handler ->
+                    accounts.each { account ->
+                        handler.handleResult([getResultObject: { -> account }] as ResultContext<Account>)
+                    }
+                }
+        ] as AccountMapper
+        return new AccountAvailabilityFilter(mapper)
+    }
+
+    private static Account account(String email, String username) {
+        return new Account(null, email, username, "hash")
+    }
+
+    @Test
+    void nothingIsDefinitelyAvailableBeforeTheFirstRebuild() {
+        AccountAvailabilityFilter filter = filterOf([])
+
+        assert !filter.isEmailDefinitelyAvailable("new@example.com")
+        assert !filter.isUsernameDefinitelyAvailable("newbie")
+    }
+
+    @Test
+    void noFalseNegativesAfterRebuild() {
+        List<Account> accounts = (0..<2_000).collect { account("user${it}@example.com", "nick${it}") }
+        AccountAvailabilityFilter filter = filterOf(accounts)
+
+        filter.rebuild()
+
+        assert accounts.every { !filter.isEmailDefinitelyAvailable(it.email) }
+        assert accounts.every { !filter.isUsernameDefinitelyAvailable(it.username) }
+    }
+
+    @Test
+    void valuesAddedAfterRebuildAreTaken() {
+        AccountAvailabilityFilter filter = filterOf([])
+        filter.rebuild()
+
+        filter.addEmail("late@example.com")
+        filter.addUsername("latecomer")
+
+        assert !filter.isEmailDefinitelyAvailable("late@example.com")
+        assert !filter.isUsernameDefinitelyAvailable("latecomer")
+    }
+
+    @Test
+    void keysFollowCaseInsensitiveAccentInsensitiveCollation() {
+        AccountAvailabilityFilter filter = filterOf([account("Jose@Example.com", "Café")])
+        filter.rebuild()
+
+        // utf8mb4_general_ci 에서 같은 값으로 보는 변형은 모두 "사용 중"
+        assert !filter.isEmailDefinitelyAvailable("jose@example.com")
+        assert !filter.isEmailDefinitelyAvailable("josé@example.com")
+        assert !filter.isUsernameDefinitelyAvailable("cafe")
+        assert !filter.isUsernameDefinitelyAvailable("CAFÉ")
+        assert !filter.isUsernameDefinitelyAvailable("Café  ")
+    }
+
+    @Test
+    void normalizeFoldsAccentsCaseAndTrailingSpaces() {
+        assert AccountAvailabilityFilter.normalize("Café ") == "cafe"
+        assert AccountAvailabilityFilter.normalize("Ångström") == "angstrom"
+        assert AccountAvailabilityFilter.normalize(" lead") == " lead"
+    }
+}
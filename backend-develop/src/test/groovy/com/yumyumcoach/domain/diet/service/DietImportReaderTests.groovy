@@ -0,0 +1,199 @@
+package com.yumyumcoach.domain.diet.service
+
+import com.yumyumcoach.domain.diet.dto.CreateDietRecordRequest
+import com.yumyumcoach.domain.export.dto.DietExportRow
+import com.yumyumcoach.domain.export.mapper.MyDataExportMapper
+import com.yumyumcoach.domain.export.model.ExportDataset
+import com.yumyumcoach.domain.export.model.ExportFormat
+import com.yumyumcoach.domain.export.service.MyDataExportService
+import com.yumyumcoach.global.exception.BusinessException
+import com.yumyumcoach.global.exception.ErrorCode
+import org.apache.ibatis.cursor.Cursor
+import org.junit.jupiter.api.Test
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+
+class DietImportReaderTests {
+
+    private static List<CreateDietRecordRequest> readAll(DietImportReader.Format format, String text) {
+        DietImportReader reader = new DietImportReader(format, new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))
+        List<CreateDietRecordRequest> diets = []
+        CreateDietRecordRequest diet
+        while ((diet = reader.next()) != null) {
+            diets << diet
+        }
+        return diets
+    }
+
+    private static BusinessException readFailure(DietImportReader.Format format, String text) {
+        try {
+            readAll(format, text)
+        } catch (BusinessException e) {
+            return e
+        }
+        throw new AssertionError("DIET_IMPORT_INVALID 가 발생해야 함")
+    }
+
+    private static List<List<Object>> foods(CreateDietRecordRequest diet) {
+        return diet.items.collect { [it.foodId, it.serveCount, it.orderIndex] }
+    }
+
+    @Test
+    void ndjsonLineIsOneDiet() {
+        List<CreateDietRecordRequest> diets = readAll(DietImportReader.Format.NDJSON, '''\
+{"recordedAt":"2025-01-01T08:00:00","mealType":"BREAKFAST","imageUrl":"https://cdn/a.jpg","items":[{"foodId":1,"serveCount":1.5},{"foodId":2,"serveCount":1}]}
+
+{"recordedAt":"2025-01-01T12:30:00","mealType":"LUNCH","items":[{"foodId":3,"serveCount":2}]}
+''')
+
+        assert diets.size() == 2
+        assert diets[0].recordedAt == LocalDateTime.of(2025, 1, 1, 8, 0)
+        assert diets[0].mealType == 'BREAKFAST'
+        assert diets[0].imageUrl == 'https://cdn/a.jpg'
+        assert foods(diets[0]) == [[1L, 1.5d, 1], [2L, 1.0d, 2]]
+        assert diets[1].imageUrl == null
+        assert foods(diets[1]) == [[3L, 2.0d, 1]]
+    }
+
+    @Test
+    void csvGroupsConsecutiveRowsOfTheSameMeal() {
+        List<CreateDietRecordRequest> diets = readAll(DietImportReader.Format.CSV, '''\
+recorded_at,meal_type,food_id,serve_count
+2025-01-01T08:00:00,BREAKFAST,1,1
+2025-01-01T08:00:00,BREAKFAST,2,0.5
+2025-01-01T12:00:00,LUNCH,3,1
+2025-01-01T08:00:00,BREAKFAST,4,1
+''')
+
+        assert diets*.mealType == ['BREAKFAST', 'LUNCH', 'BREAKFAST']
+        assert foods(diets[0]) == [[1L, 1.0d, 1], [2L, 0.5d, 2]]
+        assert foods(diets[1]) == [[3L, 1.0d, 1]]
+        // 떨어져 있는 같은 식사는 별개 식단
+        assert foods(diets[2]) == [[4L, 1.0d, 1]]
+    }
+
+    @Test
+    void csvWithoutHeaderAndWithExtraColumns() {
+        List<CreateDietRecordRequest> diets = readAll(DietImportReader.Format.CSV, '''\
+2025-01-01 19:00:00 , DINNER , 7 , 2 ,김치찌개,1,99
+''')
+
+        assert diets.size() == 1
+        assert diets[0].recordedAt == LocalDateTime.of(2025, 1, 1, 19, 0)
+        assert diets[0].mealType == 'DINNER'
+        assert foods(diets[0]) == [[7L, 2.0d, 1]]
+    }
+
+    @Test
+    void stripsUtf8Bom() {
+        List<CreateDietRecordRequest> csv = readAll(DietImportReader.Format.CSV,
+                '\uFEFFrecorded_at,meal_type,food_id,serve_count\n2025-01-01T08:00:00,BREAKFAST,1,1\n')
+        List<CreateDietRecordRequest> ndjson = readAll(DietImportReader.Format.NDJSON,
+                '\uFEFF{"recordedAt":"2025-01-01T08:00:00","mealType":"BREAKFAST","items":[{"foodId":1,"serveCount":1}]}\n')
+
+        assert csv.size() == 1 && foods(csv[0]) == [[1L, 1.0d, 1]]
+        assert ndjson.size() == 1 && foods(ndjson[0]) == [[1L, 1.0d, 1]]
+    }
+
+    @Test
+    void errorsCarryTheLineNumber() {
+        BusinessException badJson = readFailure(DietImportReader.Format.NDJSON, '''\
+{"recordedAt":"2025-01-01T08:00:00","mealType":"BREAKFAST","items":[]}
+
+{"recordedAt":
+''')
+        assert badJson.errorCode == ErrorCode.DIET_IMPORT_INVALID
+        assert badJson.message.startsWith('3번째 줄: ')
+
+        BusinessException badDate = readFailure(DietImportReader.Format.CSV, '''\
+recorded_at,meal_type,food_id,serve_count
+2025-01-01T08:00:00,BREAKFAST,1,1
+2025/01/02 08:00,BREAKFAST,1,1
+''')
+        assert badDate.message.startsWith('3번째 줄: ')
+
+        BusinessException badNumber = readFailure(DietImportReader.Format.CSV, '''\
+2025-01-01T08:00:00,BREAKFAST,1,1
+2025-01-01T08:00:00,BREAKFAST,x,1
+''')
+        assert badNumber.message.startsWith('2번째 줄: ')
+
+        BusinessException tooFewColumns = readFailure(DietImportReader.Format.CSV, '2025-01-01T08:00:00,BREAKFAST,1\n')
+        assert tooFewColumns.message.startsWith('1번째 줄: ')
+    }
+
+    @Test
+    void recordLineNumberPointsAtFirstLineOfTheDiet() {
+        DietImportReader reader = new DietImportReader(DietImportReader.Format.CSV, new ByteArrayInputStream('''\
+recorded_at,meal_type,food_id,serve_count
+2025-01-01T08:00:00,BREAKFAST,1,1
+2025-01-01T08:00:00,BREAKFAST,2,1
+2025-01-01T12:00:00,LUNCH,3,1
+'''.getBytes(StandardCharsets.UTF_8)))
+
+        reader.next()
+        assert reader.recordLineNumber() == 2
+        reader.next()
+        assert reader.recordLineNumber() == 4
+        assert reader.next() == null
+    }
+
+    // ---- 내보내기 -> 다시 가져오기 ----
+
+    private static final List<DietExportRow> EXPORTED = [
+            exportRow(10L, LocalDateTime.of(2025, 1, 1, 8, 0), 'BREAKFAST', 1L, '김치, 볶음밥', 1.5d, 1),
+            exportRow(10L, LocalDateTime.of(2025, 1, 1, 8, 0), 'BREAKFAST', 2L, '계란 "반숙"', 1d, 2),
+            exportRow(11L, LocalDateTime.of(2025, 1, 1, 12, 30, 15), 'LUNCH', 3L, '샐러드', 2d, 1),
+            // 음식 없는 식단 (CSV 에서는 생략, NDJSON 에서는 items 가 빈 배열)
+            exportRow(12L, LocalDateTime.of(2025, 1, 2, 19, 0), 'DINNER', null, null, null, null)
+    ]
+
+    private static DietExportRow exportRow(Long dietId, LocalDateTime recordedAt, String mealType,
+                                           Long foodId, String foodName, Double serveCount, Integer orderIndex) {
+        return DietExportRow.builder()
+                .dietId(dietId)
+                .recordedAt(recordedAt)
+                .mealType(mealType)
+                .totalCalories(300d)
+                .foodId(foodId)
+                .foodName(foodName)
+                .serveCount(serveCount)
+                .orderIndex(orderIndex)
+                .build()
+    }
+
+    private static String export(ExportFormat format) {
+        MyDataExportMapper mapper = [
+                cursorDietRows: { String email -> [iterator: { -> EXPORTED.iterator() }, close: { -> }] as Cursor<DietExportRow> }
+        ] as MyDataExportMapper
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        new MyDataExportService(mapper).export('a@test.com', format, ExportDataset.DIETS, out)
+        return out.toString(StandardCharsets.UTF_8)
+    }
+
+    @Test
+    void exportedCsvReimports() {
+        String csv = export(ExportFormat.CSV)
+        assert csv.startsWith('\uFEFFrecorded_at,meal_type,food_id,serve_count,')
+
+        List<CreateDietRecordRequest> diets = readAll(DietImportReader.Format.CSV, csv)
+
+        assert diets*.recordedAt == [LocalDateTime.of(2025, 1, 1, 8, 0), LocalDateTime.of(2025, 1, 1, 12, 30, 15)]
+        assert diets*.mealType == ['BREAKFAST', 'LUNCH']
+        assert foods(diets[0]) == [[1L, 1.5d, 1], [2L, 1.0d, 2]]
+        assert foods(diets[1]) == [[3L, 2.0d, 1]]
+    }
+
+    @Test
+    void exportedNdjsonReimports() {
+        List<CreateDietRecordRequest> diets = readAll(DietImportReader.Format.NDJSON, export(ExportFormat.NDJSON))
+
+        assert diets*.mealType == ['BREAKFAST', 'LUNCH', 'DINNER']
+        assert diets[1].recordedAt == LocalDateTime.of(2025, 1, 1, 12, 30, 15)
+        assert foods(diets[0]) == [[1L, 1.5d, 1], [2L, 1.0d, 2]]
+        assert foods(diets[1]) == [[3L, 2.0d, 1]]
+        // 음식 없는 식단은 그대로 읽히고 가져오기 검증(DietImportWriter)에서 걸러짐
+        assert diets[2].items.isEmpty()
+    }
+}
@@ -0,0 +1,169 @@
+package com.yumyumcoach.domain.diet.service
+
+import com.yumyumcoach.domain.diet.dto.FoodDto
+import com.yumyumcoach.domain.diet.event.FoodChangedEvent
+import com.yumyumcoach.domain.diet.mapper.FoodMapper
+import org.apache.ibatis.session.ResultContext
+import org.apache.ibatis.session.ResultHandler
+import org.junit.jupiter.api.Test
+
+class FoodSearchIndexTests {
+
+    // foods 테이블 (id -> 음식)
+    private final Map<Long, FoodDto> foods = new LinkedHashMap<>()
+    // 스트리밍 도중 실행할 동작 (재적재와 겹친 변경 재현용)
+    private Closure duringStream = {}
+
+    private final FoodMapper mapper = [
+            streamFoods   : { ResultHandler<FoodDto> handler ->
+                List<FoodDto> snapshot = List.copyOf(foods.values())
+                snapshot.eachWithIndex { food, i ->
+                    if (i == 1) {
+                        duringStream()
+                    }
+                    handler.handleResult([getResultObject: { -> food }] as ResultContext<FoodDto>)
+                }
+            },
+            selectFoodById: { Long id -> foods[id] }
+    ] as FoodMapper
+
+    private FoodSearchIndex index = new FoodSearchIndex(mapper)
+
+    private void food(long id, String name) {
+        foods[id] = FoodDto.builder().id(id).name(name).build()
+    }
+
+    private List<String> search(String keyword, int offset = 0, int limit = 20) {
+        return index.search(keyword, offset, limit)*.name
+    }
+
+    @Test
+    void returnsNullUntilLoadedOrForBlankKeyword() {
+        food(1, "김치찌개")
+
+        assert index.search("김치", 0, 10) == null
+
+        index.reload()
+        assert index.search("  ", 0, 10) == null
+    }
+
+    @Test
+    void matchesPrefixAndMiddleByBigrams() {
+        food(1, "김치찌개")
+        food(2, "된장찌개")
+        food(3, "김치볶음밥")
+        food(4, "찌개용 두부")
+        index.reload()
+
+        assert search("찌개") as Set == ["김치찌개", "된장찌개", "찌개용 두부"] as Set
+        assert search("김치") as Set == ["김치찌개", "김치볶음밥"] as Set
+        assert search("볶음밥") == ["김치볶음밥"]
+        assert search("치찌") == ["김치찌개"]
+        assert search("라면").isEmpty()
+    }
+
+    @Test
+    void bigramsMustAppearContiguously() {
+        // "치찌 김치" 는 "김치찌" 의 2-gram(김치, 치찌)을 모두 가지지만 실제로 이어져 있지 않으므로 제외
+        food(1, "김치찌개")
+        food(2, "치찌 김치")
+        index.reload()
+
+        assert search("김치찌") == ["김치찌개"]
+        assert search("찌김") == ["치찌 김치"]
+    }
+
+    @Test
+    void singleCharacterKeywordUsesUnigrams() {
+        food(1, "밥")
+        food(2, "김밥")
+        food(3, "국수")
+        index.reload()
+
+        assert search("밥") == ["밥", "김밥"]
+        assert search("수") == ["국수"]
+    }
+
+    @Test
+    void normalisesCaseAndWhitespace() {
+        food(1, "Greek Yogurt")
+        index.reload()
+
+        assert search("greekyogurt") == ["Greek Yogurt"]
+        assert search("K Y") == ["Greek Yogurt"]
+        assert search("YOG") == ["Greek Yogurt"]
+    }
+
+    @Test
+    void ranksExactThenPrefixThenMiddleThenShorterThenNewer() {
+        food(1, "우유 푸딩")
+        food(2, "우유")
+        food(3, "딸기우유")
+        food(4, "우유식빵")
+        food(5, "초코우유")
+        food(6, "우유빵")
+        index.reload()
+
+        assert search("우유") == ["우유", "우유빵", "우유식빵", "우유 푸딩", "초코우유", "딸기우유"]
+    }
+
+    @Test
+    void pagesWithOffsetAndLimit() {
+        (1..5).each { food(it, "사과${it}") }
+        index.reload()
+
+        assert search("사과", 0, 2) == ["사과5", "사과4"]
+        assert search("사과", 4, 2) == ["사과1"]
+        assert search("사과", 5, 2).isEmpty()
+    }
+
+    @Test
+    void appliesFoodChangedEvents() {
+        food(1, "두부조림")
+        index.reload()
+
+        food(2, "연두부")
+        index.onFoodChanged(new FoodChangedEvent(2L))
+        assert search("두부") as Set == ["두부조림", "연두부"] as Set
+
+        food(1, "감자조림")
+        index.onFoodChanged(new FoodChangedEvent(1L))
+        assert search("두부") == ["연두부"]
+        assert search("감자") == ["감자조림"]
+
+        foods.remove(2L)
+        index.onFoodChanged(new FoodChangedEvent(2L))
+        assert search("두부").isEmpty()
+        assert !index.containsFood(2L)
+        assert index.containsFood(1L)
+    }
+
+    @Test
+    void changesDuringReloadAreNotLost() {
+        food(1, "고등어구이")
+        food(2, "삼치구이")
+        food(3, "갈치구이")
+        index.reload()
+
+        // 스트리밍은 변경 전 스냅샷을 읽는 중에 삭제/추가/이름 변경이 커밋됨
+        duringStream = {
+            foods.remove(3L)
+            index.onFoodChanged(new FoodChangedEvent(3L))
+            food(4, "연어구이")
+            index.onFoodChanged(new FoodChangedEvent(4L))
+            food(1, "고등어조림")
+            index.onFoodChanged(new FoodChangedEvent(1L))
+        }
+        index.reload()
+
+        assert search("구이") as Set == ["삼치구이", "연어구이"] as Set
+        assert search("고등어") == ["고등어조림"]
+        assert !index.containsFood(3L)
+
+        // 재적재가 끝난 뒤의 변경은 평소처럼 반영
+        duringStream = {}
+        foods.remove(4L)
+        index.onFoodChanged(new FoodChangedEvent(4L))
+        assert search("연어").isEmpty()
+    }
+}
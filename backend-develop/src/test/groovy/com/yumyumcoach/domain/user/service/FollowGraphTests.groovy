@@ -0,0 +1,136 @@
+package com.yumyumcoach.domain.user.service
+
+import com.yumyumcoach.domain.user.dto.FollowEdge
+import com.yumyumcoach.domain.user.mapper.FollowMapper
+import org.apache.ibatis.session.ResultContext
+import org.apache.ibatis.session.ResultHandler
+import org.junit.jupiter.api.Test
+
+class FollowGraphTests {
+
+    private static final Map<String, Long> IDS = [a: 1L, b: 2L, c: 3L, d: 4L]
+
+    // follows 테이블과 follow_changes 로그를 흉내내는 가짜 mapper
+    private final List<FollowEdge> follows = []
+    private final List<FollowEdge> changeLog = []
+    private int existsQueries
+
+    private final FollowMapper mapper = [
+            streamFollowEdges      : { ResultHandler<FollowEdge> handler ->
+                follows.each { edge -> handler.handleResult([getResultObject: { -> edge }] as ResultContext<FollowEdge>) }
+            },
+            findFollowChangesWithin: { int windowSeconds -> List.copyOf(changeLog) },
+            exists                 : { String follower, String followee ->
+                existsQueries++
+                follows.any { it.followerEmail == follower && it.followeeEmail == followee }
+            }
+    ] as FollowMapper
+
+    private static FollowEdge follow(String follower, String followee) {
+        return edge(follower, followee, true)
+    }
+
+    private static FollowEdge unfollow(String follower, String followee) {
+        return edge(follower, followee, false)
+    }
+
+    private static FollowEdge edge(String follower, String followee, boolean followed) {
+        return FollowEdge.builder()
+                .followerId(IDS[follower]).followerEmail(follower)
+                .followeeId(IDS[followee]).followeeEmail(followee)
+                .followed(followed)
+                .build()
+    }
+
+    private static FollowEdge withdrawal(String email) {
+        return FollowEdge.builder().followerId(IDS[email]).followerEmail(null).build()
+    }
+
+    private FollowGraph loadedGraph() {
+        FollowGraph graph = new FollowGraph(mapper)
+        graph.reload()
+        return graph
+    }
+
+    @Test
+    void fallsBackToQueriesUntilLoaded() {
+        follows << follow("a", "b")
+        FollowGraph graph = new FollowGraph(mapper)
+
+        assert graph.isFollowing("a", "b")
+        assert existsQueries == 1
+    }
+
+    @Test
+    void answersFromMemoryAfterReload() {
+        follows.addAll([follow("a", "b"), follow("b", "a"), follow("c", "a")])
+        FollowGraph graph = loadedGraph()
+
+        assert graph.isFollowing("a", "b")
+        assert !graph.isFollowing("a", "c")
+        assert graph.isMutual("a", "b")
+        assert !graph.isMutual("a", "c")
+        assert graph.followersAmong("a", ["b", "c", "d"]) == ["b", "c"] as Set
+        assert graph.followeesAmong("c", ["a", "b"]) == ["a"] as Set
+        assert !graph.isFollowing("unknown", "a")
+        assert existsQueries == 0
+    }
+
+    @Test
+    void appliesFollowAndUnfollow() {
+        FollowGraph graph = loadedGraph()
+
+        graph.apply(follow("a", "c"))
+        assert graph.isFollowing("a", "c")
+
+        graph.apply(unfollow("a", "c"))
+        assert !graph.isFollowing("a", "c")
+        assert graph.followersAmong("c", ["a"]).isEmpty()
+    }
+
+    @Test
+    void withdrawalRemovesEdgesInBothDirections() {
+        follows.addAll([follow("a", "b"), follow("b", "a"), follow("b", "c"), follow("c", "a")])
+        FollowGraph graph = loadedGraph()
+
+        graph.apply(withdrawal("a"))
+
+        assert !graph.isFollowing("b", "a")
+        assert !graph.isFollowing("c", "a")
+        assert !graph.isFollowing("a", "b")
+        assert graph.isFollowing("b", "c")
+        assert graph.followersAmong("b", ["a", "c"]).isEmpty()
+    }
+
+    @Test
+    void replayingTheChangeLogIsIdempotent() {
+        follows << follow("a", "b")
+        FollowGraph graph = loadedGraph()
+        changeLog.addAll([follow("c", "a"), unfollow("a", "b"), follow("a", "b"), follow("d", "c"), unfollow("d", "c")])
+
+        // 폴링 구간이 겹쳐 같은 로그를 여러 번 적용해도 결과가 같아야 함
+        graph.syncFromChangeLog()
+        graph.syncFromChangeLog()
+
+        assert graph.isFollowing("c", "a")
+        assert graph.isFollowing("a", "b")
+        assert !graph.isFollowing("d", "c")
+        assert graph.followersAmong("c", ["d"]).isEmpty()
+    }
+
+    @Test
+    void changeLogRowsForDeletedAccountsAreSkippedUntilWithdrawal() {
+        follows << follow("a", "b")
+        FollowGraph graph = loadedGraph()
+        // 이미 탈퇴한 계정의 팔로우 로그는 이메일이 null 로 조회됨
+        changeLog.addAll([
+                FollowEdge.builder().followerId(IDS.c).followeeId(IDS.a).followeeEmail("a").followed(true).build(),
+                withdrawal("c")
+        ])
+
+        graph.syncFromChangeLog()
+
+        assert graph.followersAmong("a", ["c"]).isEmpty()
+        assert graph.isFollowing("a", "b")
+    }
+}
@@ -0,0 +1,34 @@
+package com.yumyumcoach.global.common
+
+import org.junit.jupiter.api.Test
+
+class BloomFilterTests {
+
+    @Test
+    void addedValuesAreNeverReportedMissing() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01)
+        List<String> values = (0..<10_000).collect { "user${it}@example.com".toString() }
+        values.each { filter.add(it) }
+
+        assert values.every { filter.mightContain(it) }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01)
+        (0..<10_000).each { filter.add("member-${it}".toString()) }
+
+        int falsePositives = (0..<10_000).count { filter.mightContain("stranger-${it}".toString()) }
+
+        // 설정 1% 대비 넉넉한 상한 (해시 편향이 있으면 크게 넘어감)
+        assert falsePositives < 300
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01)
+
+        assert !filter.mightContain("anyone")
+        assert !filter.mightContain("")
+    }
+}
@@ -0,0 +1,31 @@
+package com.yumyumcoach.global.common
+
+import org.junit.jupiter.api.Test
+
+class IntListTests {
+
+    @Test
+    void growsAndKeepsInsertionOrder() {
+        IntList list = new IntList()
+        assert list.isEmpty()
+
+        (0..<1_000).each { list.add(it * 3) }
+
+        assert list.size() == 1_000
+        assert (0..<1_000).every { list.get(it) == it * 3 }
+    }
+
+    @Test
+    void rejectsOutOfRangeIndexes() {
+        IntList list = new IntList()
+        list.add(1)
+
+        for (int index : [-1, 1, 4]) {
+            try {
+                list.get(index)
+                assert false: "index ${index} 는 범위 밖"
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+}
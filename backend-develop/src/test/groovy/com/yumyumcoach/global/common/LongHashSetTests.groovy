@@ -0,0 +1,77 @@
+package com.yumyumcoach.global.common
+
+import org.junit.jupiter.api.Test
+
+class LongHashSetTests {
+
+    @Test
+    void addContainsRemove() {
+        LongHashSet set = new LongHashSet()
+
+        assert set.add(7)
+        assert !set.add(7)
+        assert set.contains(7)
+        assert !set.contains(8)
+        assert set.size() == 1
+
+        assert set.remove(7)
+        assert !set.remove(7)
+        assert !set.contains(7)
+        assert set.isEmpty()
+    }
+
+    @Test
+    void zeroIsRejected() {
+        LongHashSet set = new LongHashSet()
+
+        for (Closure call : [{ set.add(0) }, { set.contains(0) }, { set.remove(0) }]) {
+            try {
+                call()
+                assert false: "0 은 거절되어야 함"
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    @Test
+    void growsAndRehashesWithoutLosingValues() {
+        LongHashSet set = new LongHashSet()
+        (1L..10_000L).each { assert set.add(it * 31) }
+
+        assert set.size() == 10_000
+        assert (1L..10_000L).every { set.contains(it * 31) }
+        assert !set.contains(30)
+        assert set.toArray().toList().sort() == (1L..10_000L).collect { it * 31 }
+    }
+
+    @Test
+    void removalKeepsProbeChainsIntact() {
+        // 무작위 추가/삭제를 HashSet 과 비교 (backward-shift 삭제 후에도 클러스터 뒤쪽 원소를 찾을 수 있어야 함)
+        Random random = new Random(42)
+        LongHashSet set = new LongHashSet()
+        Set<Long> expected = new HashSet<>()
+
+        20_000.times {
+            long value = random.nextInt(2_000) + 1
+            if (random.nextBoolean()) {
+                assert set.add(value) == expected.add(value)
+            } else {
+                assert set.remove(value) == expected.remove(value)
+            }
+        }
+
+        assert set.size() == expected.size()
+        assert (1L..2_000L).every { set.contains(it) == expected.contains(it) }
+    }
+
+    @Test
+    void supportsLargeIds() {
+        LongHashSet set = new LongHashSet()
+        set.add(Long.MAX_VALUE)
+        set.add(1L << 40)
+
+        assert set.contains(Long.MAX_VALUE)
+        assert set.contains(1L << 40)
+        assert !set.contains((1L << 40) + 1)
+    }
+}
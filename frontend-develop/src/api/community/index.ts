@@ -76,6 +76,15 @@ export interface CommentListResponse {
     postId: number;
     totalCount: number;
     comments: CommentResponse[];
+    hasNext: boolean;
+    nextCursorCreatedAt?: string | null;
+    nextCursorId?: number | null;
+}
+
+export interface CommentListParams {
+    cursorCreatedAt?: string;
+    cursorId?: number;
+    size?: number;
 }
 
 
@@ -109,7 +118,7 @@ export default {
     updatePost: (postId: number, data: PostUpdateRequest) => api.put<PostDetailResponse>(`/posts/${postId}`, data),
 
     // 댓글
-    getCommentsByPost: (postId: number) => api.get<CommentListResponse>(`/posts/${postId}/comments`),
+    getCommentsByPost: (postId: number, params?: CommentListParams) => api.get<CommentListResponse>(`/posts/${postId}/comments`, { params }),
     createComment: (postId: number, data: CommentRequest) => api.post<CommentResponse>(`/posts/${postId}/comments`, data),
     updateComment: (postId: number, commentId: number, data: CommentRequest) => api.put<CommentResponse>(`/posts/${postId}/comments/${commentId}`, data),
     deleteComment: (postId: number, commentId: number) => api.delete(`/posts/${postId}/comments/${commentId}`),
@@ -117,6 +117,45 @@ export interface GetMyDietDetailResponse {
   updatedAt: string; // ISO string (e.g. 2025-12-05T09:00:00)
 }
 
+/**
+ * GET /api/me/diets/day 응답
+ * - diets: 그날 식단 전체 (recordedAt 순), 각 식단에 음식 목록과 식단별 영양 합계 포함
+ * - total*: 하루 합계
+ */
+export interface MyDietDayFood {
+  id: number;
+  dietId: number;
+  foodId: number;
+  foodName: string;
+  serveCount: number;
+  calories: number; // 음식 1인분 기준
+  carbs: number;
+  protein: number;
+  fat: number;
+  orderIndex: number;
+}
+
+export interface MyDietDayRecord {
+  id: number;
+  recordedAt: string; // ISO datetime
+  mealType: DietTimeSlot;
+  imageUrl?: string;
+  totalCarbs: number;
+  totalProtein: number;
+  totalFat: number;
+  totalCalories: number;
+  items: MyDietDayFood[];
+}
+
+export interface GetMyDietDayResponse {
+  date: string; // YYYY-MM-DD
+  diets: MyDietDayRecord[];
+  totalCarbs: number;
+  totalProtein: number;
+  totalFat: number;
+  totalCalories: number;
+}
+
 export default {
   // Diet
   getDailyDiet: (date: string) => api.get(`/diets?date=${date}`),
@@ -147,6 +186,12 @@ export default {
    */
   getMyDiets: (date: string) => api.get<GetMyDietsResponse>(`/me/diets`, { params: { date } }),
 
+  /**
+   * 특정 날짜의 내 식단 전체 + 음식 + 영양 합계 (하루 화면용, 요청 1번)
+   * GET /api/me/diets/day?date=YYYY-MM-DD
+   */
+  getMyDietDay: (date: string) => api.get<GetMyDietDayResponse>(`/me/diets/day`, { params: { date } }),
+
   /**
    * 내 특정 식단 한 건의 상세 내역 조회
    * GET /api/me/diets/{dietId}
@@ -69,6 +69,25 @@ export interface UserSummary {
 export interface FollowListResponse {
     totalCount: number;
     users: UserSummary[];
+    hasNext: boolean;
+    nextCursorFollowedAt: string | null;
+    nextCursorId: number | null;
+}
+
+export interface FollowListParams {
+    cursorFollowedAt?: string;
+    cursorId?: number;
+    size?: number;
+}
+
+// Author card for feed / comment / follow list rendering
+export interface UserCard {
+    userId: number;
+    username: string;
+    profileImageUrl: string | null;
+    currentTitleId: number | null;
+    currentTitleName: string | null;
+    currentTitleIconEmoji: string | null;
 }
 
 export interface UserProfileResponse {
@@ -106,6 +125,13 @@ export default {
     getUserProfile: (userId: number) =>
         api.get<UserProfileResponse>(`${BASE_URL}/${userId}`),
 
+    /**
+     * 작성자 카드 일괄 조회 (최대 100명)
+     * GET /api/users/cards?ids=1,2,3
+     */
+    getUserCards: (userIds: number[]) =>
+        api.get<UserCard[]>(`${BASE_URL}/cards`, { params: { ids: userIds.join(",") } }),
+
     /**
      * 내 정보 조회 (마이페이지)
      * GET /api/users/me/mypage
@@ -153,15 +179,15 @@ export default {
      * 내가 팔로우하는 유저 조회
      * GET /api/users/me/followings
      */
-    getMyFollowings: () =>
-        api.get<FollowListResponse>(`${BASE_URL}/me/followings`),
+    getMyFollowings: (params?: FollowListParams) =>
+        api.get<FollowListResponse>(`${BASE_URL}/me/followings`, { params }),
 
     /**
      * 나를 팔로우하는 유저 조회
      * GET /api/users/me/followers
      */
-    getMyFollowers: () =>
-        api.get<FollowListResponse>(`${BASE_URL}/me/followers`),
+    getMyFollowers: (params?: FollowListParams) =>
+        api.get<FollowListResponse>(`${BASE_URL}/me/followers`, { params }),
 
     /**
      * 팔로우하기
@@ -7,7 +7,8 @@ import dietApi, {
   type UpdateMyDietRequest,
   type UpdateMyDietResponse,
   type GetMyDietsResponse,
-  type GetMyDietDetailResponse
+  type GetMyDietDetailResponse,
+  type GetMyDietDayResponse
 } from "@/api/diet";
 import axios from "axios";
 
@@ -23,12 +24,14 @@ export const useDietStore = defineStore("diet", () => {
   const isUpdating = ref(false);
   const isLoadingDiets = ref(false);
   const isLoadingDietDetail = ref(false);
+  const isLoadingDietDay = ref(false);
   const errorMessage = ref<string>("");
   const lastCreatedDietId = ref<CreateMyDietResponse | null>(null);
   const lastDeletedDietId = ref<number | null>(null);
   const lastUpdatedDiet = ref<UpdateMyDietResponse | null>(null);
   const myDiets = ref<GetMyDietsResponse | null>(null);
   const myDietDetail = ref<GetMyDietDetailResponse | null>(null);
+  const myDietDay = ref<GetMyDietDayResponse | null>(null);
 
   const clearError = () => {
     errorMessage.value = "";
@@ -217,23 +220,58 @@ export const useDietStore = defineStore("diet", () => {
     }
   };
 
+  // 하루 화면용: 그날 식단 + 음식 + 영양 합계를 한 번에 (식단별 상세 재조회 불필요)
+  const getMyDietDay = async (date: string) => {
+    isLoadingDietDay.value = true;
+    errorMessage.value = "";
+
+    try {
+      const response = await dietApi.getMyDietDay(date);
+      myDietDay.value = response.data;
+      return response.data;
+    } catch (error: unknown) {
+      let message = "식단 목록을 불러오는데 실패했습니다.";
+
+      if (axios.isAxiosError(error) && error.response) {
+        const data = error.response.data as ApiErrorResponse | undefined;
+        const status = error.response.status;
+
+        if (status === 400) {
+          message = "요청 값이 올바르지 않습니다.";
+        } else if (status === 401) {
+          message = "액세스 토큰이 유효하지 않습니다.";
+        } else if (data?.message) {
+          message = data.message;
+        }
+      }
+
+      errorMessage.value = message;
+      throw new Error(message);
+    } finally {
+      isLoadingDietDay.value = false;
+    }
+  };
+
   return {
     isCreating,
     isDeleting,
     isUpdating,
     isLoadingDiets,
     isLoadingDietDetail,
+    isLoadingDietDay,
     errorMessage,
     lastCreatedDietId,
     lastDeletedDietId,
     lastUpdatedDiet,
     myDiets,
     myDietDetail,
+    myDietDay,
     createMyDiet,
     deleteMyDiet,
     updateMyDiet,
     getMyDiets,
     getMyDietDetail,
+    getMyDietDay,
     clearError,
   };
 });